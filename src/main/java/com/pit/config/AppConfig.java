@@ -3,8 +3,10 @@ package com.pit.config;
 import com.pit.security.JwtProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 // Application component.
 @Configuration
-@EnableConfigurationProperties({ JwtProperties.class })
+@EnableScheduling
+@EnableConfigurationProperties({ JwtProperties.class, RatingProperties.class })
 public class AppConfig { }
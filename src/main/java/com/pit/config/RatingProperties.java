@@ -0,0 +1,104 @@
+package com.pit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Rating metrics settings.
+@ConfigurationProperties(prefix = "app.ratings")
+public class RatingProperties {
+    private MetricsMode metricsMode = MetricsMode.SYNC;
+    private int maxAttempts = 3;
+    private final Reconcile reconcile = new Reconcile();
+    private final WriteBehind writeBehind = new WriteBehind();
+    private final Ranking ranking = new Ranking();
+    private final Trending trending = new Trending();
+
+    /** How rating writes propagate to the place metrics columns. */
+    public enum MetricsMode {
+        /** Each rating updates its place row in the same transaction. */
+        SYNC,
+        /** Deltas are buffered in memory and flushed in batches on a short interval. */
+        WRITE_BEHIND
+    }
+
+    // Handles get metrics mode request operation
+    public MetricsMode getMetricsMode() { return metricsMode; }
+    // Handles set metrics mode request operation
+    public void setMetricsMode(MetricsMode metricsMode) { this.metricsMode = metricsMode; }
+
+    // Handles get max attempts request operation
+    public int getMaxAttempts() { return maxAttempts; }
+    // Handles set max attempts request operation
+    public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+    // Handles get reconcile request operation
+    public Reconcile getReconcile() { return reconcile; }
+
+    // Handles get write behind request operation
+    public WriteBehind getWriteBehind() { return writeBehind; }
+
+    // Handles get ranking request operation
+    public Ranking getRanking() { return ranking; }
+
+    // Handles get trending request operation
+    public Trending getTrending() { return trending; }
+
+    /** Background job re-deriving place rating metrics from the ratings table. */
+    public static class Reconcile {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofHours(1);
+
+        // Handles is enabled request operation
+        public boolean isEnabled() { return enabled; }
+        // Handles set enabled request operation
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        // Handles get interval request operation
+        public Duration getInterval() { return interval; }
+        // Handles set interval request operation
+        public void setInterval(Duration interval) { this.interval = interval; }
+    }
+
+    /** Buffering of place metric deltas in {@link MetricsMode#WRITE_BEHIND} mode. */
+    public static class WriteBehind {
+        private Duration flushInterval = Duration.ofMillis(500);
+
+        // Handles get flush interval request operation
+        public Duration getFlushInterval() { return flushInterval; }
+        // Handles set flush interval request operation
+        public void setFlushInterval(Duration flushInterval) { this.flushInterval = flushInterval; }
+    }
+
+    /** Prior of the Bayesian average used to rank the top rated places. */
+    public static class Ranking {
+        private double priorMean = 3.0;
+        private int minVotes = 10;
+
+        // Handles get prior mean request operation
+        public double getPriorMean() { return priorMean; }
+        // Handles set prior mean request operation
+        public void setPriorMean(double priorMean) { this.priorMean = priorMean; }
+
+        // Handles get min votes request operation
+        public int getMinVotes() { return minVotes; }
+        // Handles set min votes request operation
+        public void setMinVotes(int minVotes) { this.minVotes = minVotes; }
+    }
+
+    /** Sliding window and decay of the trending places score. */
+    public static class Trending {
+        private Duration window = Duration.ofHours(72);
+        private Duration halfLife = Duration.ofHours(6);
+
+        // Handles get window request operation
+        public Duration getWindow() { return window; }
+        // Handles set window request operation
+        public void setWindow(Duration window) { this.window = window; }
+
+        // Handles get half life request operation
+        public Duration getHalfLife() { return halfLife; }
+        // Handles set half life request operation
+        public void setHalfLife(Duration halfLife) { this.halfLife = halfLife; }
+    }
+}
@@ -2,13 +2,21 @@ package com.pit.domain;
 
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.Instant;
+import java.util.List;
 import lombok.Getter; import lombok.Setter; import lombok.NoArgsConstructor;
 
-// Application component.
+// Application component. Cached: JDBC updates of its rows must evict it (see PlaceMetricsJdbcRepository).
+// Dynamic updates: an entity save only writes the columns it changed, never the rating
+// metrics maintained by set-based increments meanwhile.
 @Getter @Setter @NoArgsConstructor
 @Entity @Table(name = "places")
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "places")
 public class Place {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -18,12 +26,76 @@ public class Place {
     @Column(nullable=false) private double lng;
     @Enumerated(EnumType.STRING) @Column(nullable=false)
     private PlaceStatus status = PlaceStatus.PENDING;
-    @ManyToOne(optional = false)
+    // Lazy: listings use PlaceSummary projections and never need the author.
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
 @JoinColumn(name = "created_by")
 private User createdBy;
 @Column(name = "avg_rating", nullable = false)
 private double avgRating = 0.0;
 @Column(name = "ratings_count", nullable = false)
 private int ratingsCount = 0;
+@Column(name = "ratings_sum", nullable = false)
+private long ratingsSum = 0;
+@Column(name = "score_1_count", nullable = false)
+private int score1Count = 0;
+@Column(name = "score_2_count", nullable = false)
+private int score2Count = 0;
+@Column(name = "score_3_count", nullable = false)
+private int score3Count = 0;
+@Column(name = "score_4_count", nullable = false)
+private int score4Count = 0;
+@Column(name = "score_5_count", nullable = false)
+private int score5Count = 0;
 @CreationTimestamp private Instant createdAt;
+/** Existing place this one likely duplicates, flagged on submission for the moderators. */
+@Column(name = "duplicate_of_id")
+private Long duplicateOfId;
+/**
+ * Revision, bumped by every update including the set-based ones; backs the HTTP ETags.
+ * Optimistic: an entity update from a copy older than the row fails instead of reusing
+ * a revision the row already had.
+ */
+@Version
+@Column(nullable = false)
+private long version = 0;
+@Column(name = "updated_at", nullable = false)
+private Instant updatedAt;
+
+    @PrePersist
+    void onCreate() {
+        if (updatedAt == null) {
+            updatedAt = Instant.now();
+        }
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    /** Number of ratings per score, from 1 to 5 stars. */
+    public List<Integer> getScoreHistogram() {
+        return List.of(score1Count, score2Count, score3Count, score4Count, score5Count);
+    }
+
+    /** Sets the number of ratings per score (1 to 5 stars) and derives count, sum and average. */
+    public void updateRatingMetrics(List<Integer> scoreCounts) {
+        if (scoreCounts.size() != 5) {
+            throw new IllegalArgumentException("expected 5 score counts");
+        }
+        this.score1Count = scoreCounts.get(0);
+        this.score2Count = scoreCounts.get(1);
+        this.score3Count = scoreCounts.get(2);
+        this.score4Count = scoreCounts.get(3);
+        this.score5Count = scoreCounts.get(4);
+        int count = 0;
+        long sum = 0;
+        for (int i = 0; i < scoreCounts.size(); i++) {
+            count += scoreCounts.get(i);
+            sum += (long) (i + 1) * scoreCounts.get(i);
+        }
+        this.ratingsCount = count;
+        this.ratingsSum = sum;
+        this.avgRating = count > 0 ? (double) sum / count : 0.0;
+    }
 }
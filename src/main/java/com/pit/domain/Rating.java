@@ -3,6 +3,7 @@ package com.pit.domain;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
 import lombok.Getter; import lombok.Setter; import lombok.NoArgsConstructor;
 
@@ -14,9 +15,14 @@ import lombok.Getter; import lombok.Setter; import lombok.NoArgsConstructor;
 public class Rating {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @ManyToOne(optional=false) private Place place;
-    @ManyToOne(optional=false) private User user;
+    // Lazy: listings only need the foreign keys; pages showing the author fetch it explicitly.
+    @ManyToOne(optional=false, fetch=FetchType.LAZY) private Place place;
+    @ManyToOne(optional=false, fetch=FetchType.LAZY) private User user;
     @Column(nullable=false) private int score; // Stored in the 1..5 range.
     @Column(columnDefinition="text") private String comment;
     @CreationTimestamp private Instant createdAt;
+    // Last write, part of the revision of the place's ratings listing.
+    @UpdateTimestamp private Instant updatedAt;
+    // Migrated by a bulk import: createdAt is the source time and is no activity on this site.
+    @Column(nullable=false) private boolean imported;
 }
@@ -2,19 +2,25 @@ package com.pit.domain;
 
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.time.Instant;
 
 
 import lombok.Getter; import lombok.Setter; import lombok.NoArgsConstructor;
 
-// Application component.
+// Application component. Cached, with its email as natural id: authentication looks it up on every request.
 @Getter @Setter @NoArgsConstructor
 @Entity @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-email")
 public class User {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(nullable=false, unique=true) private String email;
+    @NaturalId @Column(nullable=false, unique=true) private String email;
     @Column(nullable=false) private String password;
     @Enumerated(EnumType.STRING) @Column(nullable=false)
     private Role role = Role.USER;
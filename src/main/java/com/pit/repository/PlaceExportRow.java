@@ -0,0 +1,7 @@
+package com.pit.repository;
+
+import java.time.Instant;
+
+// Flat read model of one exported place, read straight from the result set.
+public record PlaceExportRow(long id, String name, String description, double lat, double lng,
+                             double avgRating, int ratingsCount, Instant createdAt) {}
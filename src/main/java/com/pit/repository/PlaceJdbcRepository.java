@@ -0,0 +1,87 @@
+package com.pit.repository;
+
+import com.pit.domain.PlaceStatus;
+import com.pit.web.dto.CreatePlaceRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Batched inserts and cursor reads of places for bulk imports and exports, bypassing the
+ * persistence context so neither ever holds more than one batch of rows in memory.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceJdbcRepository {
+
+    static final String INSERT_SQL =
+            "INSERT INTO places (name, description, lat, lng, status, created_by, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    static final String APPROVED_SQL = """
+            SELECT id, name, description, lat, lng, avg_rating, ratings_count, created_at
+            FROM places WHERE status = 'APPROVED' ORDER BY id
+            """;
+    static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Inserts {@code places} in one JDBC batch and returns their generated ids, in order. */
+    public List<Long> insert(List<CreatePlaceRequest> places, PlaceStatus status, Long createdBy) {
+        if (places.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CreatePlaceRequest place = places.get(i);
+                        ps.setString(1, place.name());
+                        ps.setString(2, place.description());
+                        ps.setDouble(3, place.lat());
+                        ps.setDouble(4, place.lng());
+                        ps.setString(5, status.name());
+                        ps.setLong(6, createdBy);
+                        ps.setTimestamp(7, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return places.size();
+                    }
+                }, keys);
+        return keys.getKeyList().stream()
+                .map(row -> ((Number) row.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * Hands every approved place to {@code consumer}, in id order, from a forward-only
+     * cursor fetching {@link #FETCH_SIZE} rows at a time. PostgreSQL only streams inside a
+     * transaction, so callers should hold one.
+     */
+    public void forEachApproved(Consumer<PlaceExportRow> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(APPROVED_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            consumer.accept(new PlaceExportRow(rs.getLong("id"), rs.getString("name"), rs.getString("description"),
+                    rs.getDouble("lat"), rs.getDouble("lng"), rs.getDouble("avg_rating"), rs.getInt("ratings_count"),
+                    createdAt != null ? createdAt.toInstant() : null));
+        });
+    }
+}
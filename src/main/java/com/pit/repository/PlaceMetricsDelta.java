@@ -0,0 +1,63 @@
+package com.pit.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Change to apply to the rating metrics of one place, as a delta of the number of
+ * ratings per score (index 0 is 1 star). Count and sum deltas are derived from it.
+ */
+public record PlaceMetricsDelta(Long placeId, List<Integer> scoreDeltas) {
+
+    public static final int MAX_SCORE = 5;
+
+    public PlaceMetricsDelta {
+        if (scoreDeltas.size() != MAX_SCORE) {
+            throw new IllegalArgumentException("expected " + MAX_SCORE + " score deltas");
+        }
+        scoreDeltas = List.copyOf(scoreDeltas);
+    }
+
+    /** Delta of a new rating ({@code previousScore == null}) or of a score change. */
+    public static PlaceMetricsDelta ofRating(Long placeId, Integer previousScore, int score) {
+        List<Integer> deltas = new ArrayList<>(List.of(0, 0, 0, 0, 0));
+        deltas.set(score - 1, 1);
+        if (previousScore != null) {
+            deltas.set(previousScore - 1, deltas.get(previousScore - 1) - 1);
+        }
+        return new PlaceMetricsDelta(placeId, deltas);
+    }
+
+    // Handles count delta request operation
+    public int countDelta() {
+        return scoreDeltas.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    // Handles sum delta request operation
+    public long sumDelta() {
+        long sum = 0;
+        for (int i = 0; i < MAX_SCORE; i++) {
+            sum += (long) (i + 1) * scoreDeltas.get(i);
+        }
+        return sum;
+    }
+
+    // Handles score delta request operation
+    public int scoreDelta(int score) {
+        return scoreDeltas.get(score - 1);
+    }
+
+    // Handles plus request operation
+    public PlaceMetricsDelta plus(PlaceMetricsDelta other) {
+        List<Integer> merged = new ArrayList<>(MAX_SCORE);
+        for (int i = 0; i < MAX_SCORE; i++) {
+            merged.add(scoreDeltas.get(i) + other.scoreDeltas.get(i));
+        }
+        return new PlaceMetricsDelta(placeId, merged);
+    }
+
+    // Handles is empty request operation
+    public boolean isEmpty() {
+        return scoreDeltas.stream().allMatch(d -> d == 0);
+    }
+}
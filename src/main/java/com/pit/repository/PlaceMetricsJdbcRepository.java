@@ -0,0 +1,114 @@
+package com.pit.repository;
+
+import com.pit.domain.Place;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Set-based updates of the place rating metrics. Increments are applied by the database
+ * itself ({@code ratings_count = ratings_count + ?}), so concurrent writers never lose an update.
+ * These statements bypass Hibernate, so the updated places are evicted from its
+ * second-level cache, and again when the transaction completes in case a reader cached the
+ * old row meanwhile.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceMetricsJdbcRepository {
+
+    static final String APPLY_DELTA_SQL = """
+            UPDATE places
+            SET ratings_count = ratings_count + ?,
+                ratings_sum   = ratings_sum + ?,
+                avg_rating    = CASE WHEN ratings_count + ? > 0
+                                     THEN CAST(ratings_sum + ? AS DOUBLE PRECISION) / (ratings_count + ?)
+                                     ELSE 0 END,
+                score_1_count = score_1_count + ?,
+                score_2_count = score_2_count + ?,
+                score_3_count = score_3_count + ?,
+                score_4_count = score_4_count + ?,
+                score_5_count = score_5_count + ?,
+                version       = version + 1,
+                updated_at    = CURRENT_TIMESTAMP
+            WHERE id = ?
+            """;
+
+    static final String RECOMPUTE_SQL = """
+            UPDATE places
+            SET score_1_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 1),
+                score_2_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 2),
+                score_3_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 3),
+                score_4_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 4),
+                score_5_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 5),
+                ratings_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id),
+                ratings_sum   = (SELECT COALESCE(SUM(r.score), 0) FROM ratings r WHERE r.place_id = places.id),
+                avg_rating    = COALESCE((SELECT AVG(CAST(r.score AS DOUBLE PRECISION)) FROM ratings r
+                                          WHERE r.place_id = places.id), 0),
+                version       = version + 1,
+                updated_at    = CURRENT_TIMESTAMP
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /** Applies one delta and returns whether the place row exists. */
+    public boolean applyDelta(PlaceMetricsDelta delta) {
+        boolean updated = jdbcTemplate.update(APPLY_DELTA_SQL, ps -> bind(ps, delta)) > 0;
+        evictFromCache(List.of(delta.placeId()));
+        return updated;
+    }
+
+    /** Applies the deltas in one JDBC batch and returns the per-row update counts. */
+    public int[] applyDeltas(List<PlaceMetricsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return new int[0];
+        }
+        int[] counts = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(),
+                PlaceMetricsJdbcRepository::bind)[0];
+        evictFromCache(deltas.stream().map(PlaceMetricsDelta::placeId).toList());
+        return counts;
+    }
+
+    /** Re-derives the metrics of the given places from the ratings table, in one JDBC batch. */
+    public void recomputeFromRatings(List<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RECOMPUTE_SQL, placeIds, placeIds.size(), (ps, placeId) -> ps.setLong(1, placeId));
+        evictFromCache(placeIds);
+    }
+
+    private void evictFromCache(List<Long> placeIds) {
+        Cache cache = entityManagerFactory.getCache();
+        placeIds.forEach(id -> cache.evict(Place.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    placeIds.forEach(id -> cache.evict(Place.class, id));
+                }
+            });
+        }
+    }
+
+    private static void bind(PreparedStatement ps, PlaceMetricsDelta delta) throws SQLException {
+        ps.setInt(1, delta.countDelta());
+        ps.setLong(2, delta.sumDelta());
+        ps.setInt(3, delta.countDelta());
+        ps.setLong(4, delta.sumDelta());
+        ps.setInt(5, delta.countDelta());
+        for (int score = 1; score <= PlaceMetricsDelta.MAX_SCORE; score++) {
+            ps.setInt(5 + score, delta.scoreDelta(score));
+        }
+        ps.setLong(11, delta.placeId());
+    }
+}
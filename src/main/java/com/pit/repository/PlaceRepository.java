@@ -1,12 +1,75 @@
 package com.pit.repository;
 import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 // Application component.
 public interface PlaceRepository extends JpaRepository<Place, Long> {
-    Page<Place> findByStatus(PlaceStatus status, Pageable pageable);
-    Page<Place> findByStatusIn(Collection<PlaceStatus> statuses, Pageable pageable);
+
+    /** Select list of {@link PlaceSummary}: only the columns listings show. */
+    String SUMMARY_SELECT = "select p.id as id, p.name as name, p.description as description, "
+            + "p.lat as lat, p.lng as lng, p.status as status, p.avgRating as avgRating, "
+            + "p.ratingsCount as ratingsCount, p.createdAt as createdAt, "
+            + "p.score1Count as score1Count, p.score2Count as score2Count, p.score3Count as score3Count, "
+            + "p.score4Count as score4Count, p.score5Count as score5Count, "
+            + "p.duplicateOfId as duplicateOfId, p.version as version, p.updatedAt as updatedAt from Place p ";
+
+    @Query(value = SUMMARY_SELECT, countQuery = "select count(p) from Place p")
+    Page<PlaceSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "where p.status = :status",
+            countQuery = "select count(p) from Place p where p.status = :status")
+    Page<PlaceSummary> findSummariesByStatus(@Param("status") PlaceStatus status, Pageable pageable);
+
+    /** Same as {@link #findSummariesByStatus} without the COUNT query: fetches one extra row instead. */
+    @Query(SUMMARY_SELECT + "where p.status = :status")
+    Slice<PlaceSummary> findSummarySliceByStatus(@Param("status") PlaceStatus status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where p.status in :statuses order by p.createdAt desc, p.id desc")
+    List<PlaceSummary> findLatestByStatusIn(@Param("statuses") Collection<PlaceStatus> statuses, Limit limit);
+
+    @Query(SUMMARY_SELECT + "where p.status in :statuses "
+            + "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) "
+            + "order by p.createdAt desc, p.id desc")
+    List<PlaceSummary> findByStatusInBefore(@Param("statuses") Collection<PlaceStatus> statuses,
+                                            @Param("createdAt") Instant createdAt, @Param("id") Long id, Limit limit);
+
+    /** Keyset batch used to (re)build the in-memory indexes without COUNT queries. */
+    List<Place> findTop500ByStatusAndIdGreaterThanOrderByIdAsc(PlaceStatus status, Long id);
+
+    List<Place> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Place p where p.id = :id")
+    Optional<Place> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select p from Place p left join fetch p.createdBy where p.id in :ids")
+    List<Place> findAllWithCreatorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Set-based status change that also bumps the revision of each place; bypasses the
+     * persistence context, which is cleared afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Place p set p.status = :status, p.version = p.version + 1, p.updatedAt = :now "
+            + "where p.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") PlaceStatus status,
+                           @Param("now") Instant now);
+
+    /** Set-based delete; ratings go with their place through the ON DELETE CASCADE foreign key. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Place p where p.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
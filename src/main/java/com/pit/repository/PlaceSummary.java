@@ -0,0 +1,32 @@
+package com.pit.repository;
+
+import com.pit.domain.PlaceStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+// Projection of the place columns shown by listings; never touches the author.
+public interface PlaceSummary {
+    Long getId();
+    String getName();
+    String getDescription();
+    double getLat();
+    double getLng();
+    PlaceStatus getStatus();
+    double getAvgRating();
+    int getRatingsCount();
+    Instant getCreatedAt();
+    int getScore1Count();
+    int getScore2Count();
+    int getScore3Count();
+    int getScore4Count();
+    int getScore5Count();
+    Long getDuplicateOfId();
+    long getVersion();
+    Instant getUpdatedAt();
+
+    /** Number of ratings per score, from 1 to 5 stars. */
+    default List<Integer> getScoreHistogram() {
+        return List.of(getScore1Count(), getScore2Count(), getScore3Count(), getScore4Count(), getScore5Count());
+    }
+}
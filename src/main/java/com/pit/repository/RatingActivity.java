@@ -0,0 +1,9 @@
+package com.pit.repository;
+
+import java.time.Instant;
+
+// Projection of the place and creation time of one rating.
+public interface RatingActivity {
+    Long getPlaceId();
+    Instant getCreatedAt();
+}
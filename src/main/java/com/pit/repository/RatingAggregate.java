@@ -0,0 +1,13 @@
+package com.pit.repository;
+
+// Projection of the rating count, score sum and per-score counts of one place.
+public interface RatingAggregate {
+    Long getPlaceId();
+    long getCount();
+    Long getSum();
+    long getScore1();
+    long getScore2();
+    long getScore3();
+    long getScore4();
+    long getScore5();
+}
@@ -0,0 +1,91 @@
+package com.pit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based reads and writes of ratings for bulk imports, bypassing the persistence
+ * context: lookups take a whole batch of keys and writes go out as JDBC batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RatingJdbcRepository {
+
+    static final String UPDATE_SQL =
+            "UPDATE ratings SET score = ?, comment = ?, updated_at = ? WHERE user_id = ? AND place_id = ?";
+    static final String INSERT_SQL = "INSERT INTO ratings (place_id, user_id, score, comment, created_at, updated_at, imported) "
+            + "VALUES (?, ?, ?, ?, ?, ?, TRUE)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** Ids of the users having one of the given emails, by email. */
+    public Map<String, Long> findUserIdsByEmail(Collection<String> emails) {
+        Map<String, Long> ids = new HashMap<>();
+        if (emails.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query("SELECT id, email FROM users WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", emails),
+                rs -> { ids.put(rs.getString("email"), rs.getLong("id")); });
+        return ids;
+    }
+
+    /** The given place ids that exist and are approved, i.e. can be rated. */
+    public Set<Long> findRatablePlaceIds(Collection<Long> placeIds) {
+        if (placeIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM places WHERE id IN (:ids) AND status = 'APPROVED'",
+                new MapSqlParameterSource("ids", placeIds), Long.class));
+    }
+
+    /**
+     * Updates the existing ratings in one batch, inserts the others in a second one, and
+     * returns the number of inserted rows. Keys must be unique within {@code rows}.
+     * Inserted rows keep their source timestamp and are flagged as imported, so they never
+     * count as recent activity.
+     */
+    public int upsert(List<RatingUpsert> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        int[][] updated = jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.score());
+            ps.setString(2, row.comment());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, row.userId());
+            ps.setLong(5, row.placeId());
+        });
+        List<RatingUpsert> missing = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (updated[0][i] == 0) {
+                missing.add(rows.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, missing, missing.size(), (ps, row) -> {
+                ps.setLong(1, row.placeId());
+                ps.setLong(2, row.userId());
+                ps.setInt(3, row.score());
+                ps.setString(4, row.comment());
+                ps.setTimestamp(5, row.createdAt() != null ? Timestamp.from(row.createdAt()) : now);
+                ps.setTimestamp(6, now);
+            });
+        }
+        return missing.size();
+    }
+}
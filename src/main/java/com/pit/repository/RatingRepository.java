@@ -1,18 +1,57 @@
 package com.pit.repository;
 import com.pit.domain.Rating;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 // Application component.
 public interface RatingRepository extends JpaRepository<Rating, Long> {
     Optional<Rating> findByUserIdAndPlaceId(Long userId, Long placeId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Rating r where r.user.id = :userId and r.place.id = :placeId")
+    Optional<Rating> findByUserIdAndPlaceIdForUpdate(@Param("userId") Long userId, @Param("placeId") Long placeId);
     Page<Rating> findByPlaceId(Long placeId, Pageable pageable);
 
+    /** Same as {@link #findByPlaceId} with the authors joined into the same query. */
+    @EntityGraph(attributePaths = "user")
+    Page<Rating> findWithUserByPlaceId(Long placeId, Pageable pageable);
+
+    @Query("select r from Rating r where r.place.id = :placeId order by r.createdAt desc, r.id desc")
+    List<Rating> findLatestByPlaceId(@Param("placeId") Long placeId, Limit limit);
+
+    @Query("select r from Rating r where r.place.id = :placeId "
+            + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) "
+            + "order by r.createdAt desc, r.id desc")
+    List<Rating> findByPlaceIdBefore(@Param("placeId") Long placeId, @Param("createdAt") Instant createdAt,
+                                     @Param("id") Long id, Limit limit);
+
     long countByPlaceId(Long placeId);
 
-    @Query("select avg(r.score) from Rating r where r.place.id = :placeId")
-    Double findAverageScoreByPlaceId(@Param("placeId") Long placeId);
+    // Any insert, update or delete of a place's ratings changes the count or the last write.
+    @Query("select count(r) as count, max(r.updatedAt) as updatedAt from Rating r where r.place.id = :placeId")
+    RatingsRevision findRevisionByPlaceId(@Param("placeId") Long placeId);
+
+    @Query("select r.place.id as placeId, count(r) as count, sum(r.score) as sum, "
+            + "sum(case when r.score = 1 then 1 else 0 end) as score1, "
+            + "sum(case when r.score = 2 then 1 else 0 end) as score2, "
+            + "sum(case when r.score = 3 then 1 else 0 end) as score3, "
+            + "sum(case when r.score = 4 then 1 else 0 end) as score4, "
+            + "sum(case when r.score = 5 then 1 else 0 end) as score5 "
+            + "from Rating r where r.place.id in :placeIds group by r.place.id")
+    List<RatingAggregate> aggregateByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
+
+    // Imported ratings are not activity on this site, like they never feed the live trending index.
+    @Query("select r.place.id as placeId, r.createdAt as createdAt from Rating r "
+            + "where r.createdAt >= :since and r.imported = false")
+    List<RatingActivity> findActivitySince(@Param("since") Instant since);
 }
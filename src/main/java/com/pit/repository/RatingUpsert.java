@@ -0,0 +1,6 @@
+package com.pit.repository;
+
+import java.time.Instant;
+
+// Rating row written by a bulk import; a null createdAt stands for the import time.
+public record RatingUpsert(Long placeId, Long userId, int score, String comment, Instant createdAt) {}
@@ -0,0 +1,9 @@
+package com.pit.repository;
+
+import java.time.Instant;
+
+// Projection of the number of ratings of one place and of their last write.
+public interface RatingsRevision {
+    long getCount();
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,12 @@
+package com.pit.repository;
+
+import com.pit.domain.User;
+
+import java.util.Optional;
+
+// Lookup of users by email through the Hibernate natural-id cache, merged into UserRepository.
+public interface UserEmailLookup {
+
+    /** User with this exact email; a cached lookup runs no query at all. */
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,25 @@
+package com.pit.repository;
+
+import com.pit.domain.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Natural-id implementation of UserEmailLookup: resolves the email to an id, then the user, both from the L2 cache.
+@RequiredArgsConstructor
+class UserEmailLookupImpl implements UserEmailLookup {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    // Handles find by email request operation
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
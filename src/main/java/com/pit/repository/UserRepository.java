@@ -1,8 +1,6 @@
 package com.pit.repository;
 import com.pit.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
-// Application component.
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+// Application component. findByEmail comes from UserEmailLookup and goes through the natural-id cache.
+public interface UserRepository extends JpaRepository<User, Long>, UserEmailLookup {
 }
@@ -0,0 +1,62 @@
+package com.pit.service;
+
+import com.pit.web.dto.CursorPage;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Position of a keyset (seek) pagination over rows ordered by {@code (createdAt, id)}:
+ * the key of the last row returned. Exchanged with clients as an opaque URL-safe token.
+ */
+public record KeysetCursor(Instant createdAt, Long id) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    // Handles encode request operation
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /** Decodes a token produced by {@link #encode()}; a blank token means the first page. */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        return new KeysetCursor(Instant.ofEpochSecond(seconds, nanos), buffer.getLong());
+    }
+
+    /**
+     * Builds a page from {@code rows} fetched with a limit of {@code size + 1}: the extra
+     * row only signals that a next page exists.
+     */
+    public static <T> CursorPage<T> page(List<T> rows, int size, Function<T, KeysetCursor> keyOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(items, keyOf.apply(items.get(size - 1)).encode());
+    }
+}
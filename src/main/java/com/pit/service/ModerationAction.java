@@ -0,0 +1,4 @@
+package com.pit.service;
+
+// Moderation decision applied to a batch of places.
+public enum ModerationAction { APPROVE, REJECT, DELETE }
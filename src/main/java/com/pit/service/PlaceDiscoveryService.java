@@ -0,0 +1,58 @@
+package com.pit.service;
+
+import com.pit.web.dto.NearbyPlaceDto;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.PlaceSuggestionDto;
+import com.pit.web.dto.RankedPlaceDto;
+import com.pit.web.dto.ViewportDto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Read-only queries over approved places served from the in-memory indexes,
+ * without a database round trip.
+ */
+public interface PlaceDiscoveryService {
+
+    /**
+     * Approved places within {@code radiusKm} of the given point, nearest first.
+     */
+    List<NearbyPlaceDto> findNearby(double lat, double lng, double radiusKm, int limit);
+
+    /**
+     * Content of a map viewport: clusters below {@code PlaceClusterIndex.MAX_CLUSTER_ZOOM},
+     * individual places from that zoom level on.
+     */
+    ViewportDto findInViewport(double minLat, double minLng, double maxLat, double maxLng, int zoom);
+
+    /**
+     * Binary encoding of the approved places in Web Mercator tile {@code zoom/x/y}
+     * (see {@code PlaceTileEncoder} for the format).
+     */
+    byte[] renderTile(int zoom, long x, long y);
+
+    /**
+     * Full-text search over the name and description of approved places, accent- and
+     * case-insensitive, best matches first.
+     */
+    Page<PlaceDto> search(String query, Pageable pageable);
+
+    /**
+     * Approved place names having a word that starts with {@code prefix}, most rated first.
+     */
+    List<PlaceSuggestionDto> suggest(String prefix, int limit);
+
+    /**
+     * Best rated approved places by Bayesian average, best first.
+     */
+    List<RankedPlaceDto> topRated(int limit);
+
+    /**
+     * Approved places with the most rating activity over the trending window, recent
+     * ratings weighing more, hottest first.
+     */
+    List<RankedPlaceDto> trending(int limit);
+}
@@ -0,0 +1,16 @@
+package com.pit.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Full dumps of the approved places for partners.
+ */
+public interface PlaceExportService {
+
+    /** Writes every approved place to {@code out} as one GeoJSON FeatureCollection. */
+    void writeGeoJson(OutputStream out) throws IOException;
+
+    /** Writes every approved place to {@code out} as newline-delimited JSON objects. */
+    void writeNdjson(OutputStream out) throws IOException;
+}
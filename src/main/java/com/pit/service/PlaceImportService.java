@@ -0,0 +1,31 @@
+package com.pit.service;
+
+import com.pit.domain.PlaceStatus;
+import com.pit.web.dto.PlaceImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk seeding of places from CSV or GeoJSON files.
+ */
+public interface PlaceImportService {
+
+    /**
+     * Imports the rows of a CSV file whose header names the {@code name}, {@code lat},
+     * {@code lng} and optionally {@code description} columns. Rows are validated like a
+     * {@code CreatePlaceRequest} and inserted in JDBC batches as places of {@code userId};
+     * invalid rows are skipped and reported. If reading or a batch fails midway, the
+     * batches inserted so far stay committed and are logged before the failure propagates.
+     */
+    PlaceImportReport importCsv(InputStream csv, PlaceStatus status, Long userId) throws IOException;
+
+    /**
+     * Same as {@link #importCsv} for the Point features of a GeoJSON FeatureCollection,
+     * reading {@code name} and {@code description} from their properties. Features are
+     * parsed one at a time, so the file is never held in memory. A document that is not
+     * JSON is an {@link IllegalArgumentException}; one that breaks off midway is reported
+     * with the features read before the break.
+     */
+    PlaceImportReport importGeoJson(InputStream geoJson, PlaceStatus status, Long userId) throws IOException;
+}
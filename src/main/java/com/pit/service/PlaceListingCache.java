@@ -0,0 +1,179 @@
+package com.pit.service;
+
+import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceSummary;
+import com.pit.service.event.PlaceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of place listings by status, bounded in size (least recently used
+ * first out) and in age. It is invalidated after commit by {@link PlaceChangedEvent}: a
+ * status change drops the listings of the old and new statuses, a metrics change only the
+ * listings showing that place. Listings ordered by rating metrics are not cached, since
+ * any rating may reorder them.
+ */
+@Component
+public class PlaceListingCache {
+
+    static final Set<String> STABLE_SORT_PROPERTIES = Set.of("createdAt", "id", "name");
+
+    // One cached listing: kind ("page" or "slice"), status (null for all) and page request.
+    private record Key(String kind, PlaceStatus status, int page, int size, Sort sort) {}
+
+    // Cached listing with the ids it shows and its expiry, on the nano clock.
+    private record Entry(Slice<PlaceSummary> value, Set<Long> placeIds, long expiresAt) {}
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private long invalidations;
+
+    @Autowired
+    public PlaceListingCache(MeterRegistry meterRegistry,
+                             @Value("${app.places.listing-cache.enabled:true}") boolean enabled,
+                             @Value("${app.places.listing-cache.max-entries:256}") int maxEntries,
+                             @Value("${app.places.listing-cache.ttl:PT30S}") Duration ttl) {
+        this(meterRegistry, enabled, maxEntries, ttl, System::nanoTime);
+    }
+
+    PlaceListingCache(MeterRegistry meterRegistry, boolean enabled, int maxEntries, Duration ttl,
+                      LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PlaceListingCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("pit.places.listing.cache.requests").tag("result", "hit")
+                .description("Place listings served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("pit.places.listing.cache.requests").tag("result", "miss")
+                .description("Place listings loaded from the database")
+                .register(meterRegistry);
+        Gauge.builder("pit.places.listing.cache.hit.ratio", this, PlaceListingCache::hitRatio)
+                .description("Share of cacheable place listings served from the cache")
+                .register(meterRegistry);
+        Gauge.builder("pit.places.listing.cache.size", this, PlaceListingCache::size)
+                .description("Place listings currently cached")
+                .register(meterRegistry);
+    }
+
+    /** Cached {@code Page} listing of the places having {@code status} (null for all). */
+    public <T extends Slice<PlaceSummary>> T page(PlaceStatus status, Pageable pageable, Supplier<T> loader) {
+        return get("page", status, pageable, loader);
+    }
+
+    /** Cached count-free listing of the places having {@code status} (null for all). */
+    public <T extends Slice<PlaceSummary>> T slice(PlaceStatus status, Pageable pageable, Supplier<T> loader) {
+        return get("slice", status, pageable, loader);
+    }
+
+    /**
+     * Evicts what the change may have made stale. Runs after commit, so a listing
+     * loaded from then on already sees the change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    // Handles on place changed request operation
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (!enabled || event.place() == null) {
+            return;
+        }
+        Long placeId = event.place().getId();
+        PlaceChangedEvent.Type type = event.type();
+        if (type == PlaceChangedEvent.Type.METRICS_UPDATED) {
+            invalidate(key -> false, placeId);
+            return;
+        }
+        Set<PlaceStatus> statuses = EnumSet.noneOf(PlaceStatus.class);
+        if (event.place().getStatus() != null) {
+            statuses.add(event.place().getStatus());
+        }
+        if (event.previousStatus() != null) {
+            statuses.add(event.previousStatus());
+        }
+        // A moderation without its previous status may have moved the place out of any listing.
+        boolean anyStatus = event.previousStatus() == null
+                && (type == PlaceChangedEvent.Type.APPROVED || type == PlaceChangedEvent.Type.REJECTED);
+        invalidate(key -> anyStatus || key.status() == null || statuses.contains(key.status()), placeId);
+    }
+
+    // Handles size request operation
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Handles hit ratio request operation
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Slice<PlaceSummary>> T get(String kind, PlaceStatus status, Pageable pageable,
+                                                  Supplier<T> loader) {
+        if (!enabled || !cacheable(pageable)) {
+            return loader.get();
+        }
+        Key key = new Key(kind, status, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        long generation;
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.expiresAt() - nanoClock.getAsLong() > 0) {
+                hits.increment();
+                return (T) cached.value();
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+            generation = invalidations;
+        }
+        misses.increment();
+        T loaded = loader.get();
+        Set<Long> placeIds = new HashSet<>();
+        loaded.forEach(place -> placeIds.add(place.getId()));
+        synchronized (this) {
+            // A listing loaded while an invalidation happened may predate the change.
+            if (invalidations == generation) {
+                entries.put(key, new Entry(loaded, placeIds, nanoClock.getAsLong() + ttlNanos));
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized void invalidate(Predicate<Key> byKey, Long placeId) {
+        entries.entrySet().removeIf(e -> byKey.test(e.getKey()) || e.getValue().placeIds().contains(placeId));
+        invalidations++;
+    }
+
+    private static boolean cacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getSort().stream().allMatch(order -> STABLE_SORT_PROPERTIES.contains(order.getProperty()));
+    }
+}
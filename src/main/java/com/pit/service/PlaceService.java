@@ -2,21 +2,50 @@ package com.pit.service;
 
 import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceSummary;
+import com.pit.web.dto.BatchModerationReport;
 import com.pit.web.dto.CreatePlaceRequest;
+import com.pit.web.dto.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-// Application component.
+import java.util.Collection;
+
+// Application component. Listings return column projections and never load the authors.
 public interface PlaceService {
 
-    Page<Place> findAll(Pageable pageable);
+    Page<PlaceSummary> findAll(Pageable pageable);
+
+    Page<PlaceSummary> findByStatus(PlaceStatus status, Pageable pageable);
+
+    Page<PlaceSummary> findApproved(Pageable pageable);
+
+    /**
+     * Approved places without a total count, for listings that only need previous/next.
+     */
+    Slice<PlaceSummary> findApprovedSlice(Pageable pageable);
 
-    Page<Place> findByStatus(PlaceStatus status, Pageable pageable);
+    /**
+     * Places having {@code status} without a total count, for listings that only need
+     * previous/next.
+     */
+    Slice<PlaceSummary> findSliceByStatus(PlaceStatus status, Pageable pageable);
 
-    Page<Place> findApproved(Pageable pageable);
+    /**
+     * Keyset listing of the places having {@code status} ({@code null} for all), newest
+     * first, starting after {@code after} ({@code null} for the first page).
+     */
+    CursorPage<PlaceSummary> findByStatusAfter(PlaceStatus status, KeysetCursor after, int size);
 
     Place findById(Long id);
 
+    /**
+     * Cached read-only view of one place, for the detail pages; concurrent misses on the
+     * same id share one load. Throws {@link IllegalArgumentException} when it does not exist.
+     */
+    PlaceView findView(Long id);
+
     Place create(String name, String description, double lat, double lng, Long userId);
 
     /**
@@ -29,4 +58,10 @@ public interface PlaceService {
     Place approve(Long id);
     Place reject(Long id);
     void delete(Long id);
+
+    /**
+     * Applies one moderation decision to many places in a single transaction, with
+     * set-based statements; each creator receives one notification for all their places.
+     */
+    BatchModerationReport batchModerate(Collection<Long> ids, ModerationAction action);
 }
@@ -0,0 +1,24 @@
+package com.pit.service;
+
+import com.pit.domain.PlaceStatus;
+import com.pit.web.dto.PlaceDto;
+
+import java.time.Instant;
+
+/**
+ * Detached, read-only view of one place for the detail pages: its DTO, the id of its
+ * creator (enough to decide who may see a place that is not approved yet) and its
+ * revision, for the HTTP validators.
+ */
+public record PlaceView(PlaceDto place, Long createdById, long version, Instant updatedAt) {
+
+    // Handles is approved request operation
+    public boolean isApproved() {
+        return PlaceStatus.APPROVED.name().equals(place.status());
+    }
+
+    // Handles is created by request operation
+    public boolean isCreatedBy(Long userId) {
+        return userId != null && userId.equals(createdById);
+    }
+}
@@ -0,0 +1,170 @@
+package com.pit.service;
+
+import com.pit.service.event.PlaceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through cache of {@link PlaceView}s by place id, bounded in size (least recently
+ * used first out) and in age. Concurrent misses on the same id are coalesced: the first
+ * caller loads the place and the others wait for its result, so a burst of views on one
+ * place costs a single query. Every {@link PlaceChangedEvent} of a place evicts its view
+ * after commit and marks a load in flight as stale; a stale load still answers the
+ * callers that joined it but is not cached, and later callers start a fresh load.
+ */
+@Component
+public class PlaceViewCache {
+
+    // Cached view and its expiry, on the nano clock.
+    private record Entry(PlaceView view, long expiresAt) {}
+
+    // Load in progress for one id; callers arriving meanwhile join its result.
+    private static final class Flight {
+        final CompletableFuture<Optional<PlaceView>> result = new CompletableFuture<>();
+        boolean stale;
+    }
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Long, Entry> entries;
+    private final Map<Long, Flight> flights = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    @Autowired
+    public PlaceViewCache(MeterRegistry meterRegistry,
+                          @Value("${app.places.view-cache.enabled:true}") boolean enabled,
+                          @Value("${app.places.view-cache.max-entries:10000}") int maxEntries,
+                          @Value("${app.places.view-cache.ttl:PT5M}") Duration ttl) {
+        this(meterRegistry, enabled, maxEntries, ttl, System::nanoTime);
+    }
+
+    PlaceViewCache(MeterRegistry meterRegistry, boolean enabled, int maxEntries, Duration ttl,
+                   LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > PlaceViewCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("pit.places.view.cache.requests").tag("result", "hit")
+                .description("Place views served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("pit.places.view.cache.requests").tag("result", "miss")
+                .description("Place views loaded from the database")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("pit.places.view.cache.requests").tag("result", "coalesced")
+                .description("Place views that waited for a load already in flight")
+                .register(meterRegistry);
+        Gauge.builder("pit.places.view.cache.size", this, PlaceViewCache::size)
+                .description("Place views currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached view of the place or loads it, joining a load of the same id
+     * already in flight. Absent places are not cached.
+     */
+    public Optional<PlaceView> get(Long id, Function<Long, Optional<PlaceView>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        Flight flight;
+        boolean leader;
+        synchronized (this) {
+            Entry cached = entries.get(id);
+            if (cached != null && cached.expiresAt() - nanoClock.getAsLong() > 0) {
+                hits.increment();
+                return Optional.of(cached.view());
+            }
+            if (cached != null) {
+                entries.remove(id);
+            }
+            flight = flights.get(id);
+            leader = flight == null;
+            if (leader) {
+                flight = new Flight();
+                flights.put(id, flight);
+            }
+        }
+        if (!leader) {
+            coalesced.increment();
+            return join(flight);
+        }
+        misses.increment();
+        Optional<PlaceView> loaded;
+        try {
+            loaded = loader.apply(id);
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                flights.remove(id, flight);
+            }
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        }
+        synchronized (this) {
+            flights.remove(id, flight);
+            if (!flight.stale && loaded.isPresent()) {
+                entries.put(id, new Entry(loaded.get(), nanoClock.getAsLong() + ttlNanos));
+            }
+        }
+        flight.result.complete(loaded);
+        return loaded;
+    }
+
+    /** Evicts the view of the changed place once its transaction has committed. */
+    @TransactionalEventListener(fallbackExecution = true)
+    // Handles on place changed request operation
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (event.place() != null) {
+            evict(event.place().getId());
+        }
+    }
+
+    // Handles evict request operation
+    public synchronized void evict(Long id) {
+        entries.remove(id);
+        Flight flight = flights.remove(id);
+        if (flight != null) {
+            flight.stale = true;
+        }
+    }
+
+    // Handles size request operation
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static Optional<PlaceView> join(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pit.service;
+
+import com.pit.web.dto.BulkRatingReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk ingestion of ratings migrated from partner sites.
+ */
+public interface RatingImportService {
+
+    /**
+     * Upserts the newline-delimited JSON {@code BulkRatingRecord}s read from {@code ndjson}
+     * in JDBC batches, then recomputes the metrics of every affected place once. Invalid
+     * lines are skipped and reported; valid ones are imported regardless.
+     */
+    BulkRatingReport importNdjson(InputStream ndjson) throws IOException;
+}
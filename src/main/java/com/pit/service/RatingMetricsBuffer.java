@@ -0,0 +1,119 @@
+package com.pit.service;
+
+import com.pit.repository.PlaceMetricsDelta;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory coalescing of place metric deltas for the write-behind mode: any number of
+ * ratings on the same place between two flushes collapse into a single delta. Deltas are
+ * only recorded once the rating transaction has committed.
+ * <p>
+ * A place also counts as pending while one of its deltas is in flight, from just before
+ * its rating commits until the flush that drained it has committed (or re-queued it).
+ * Writers that set the metrics from the ratings table must skip such places: the ratings
+ * table already holds the rating, and the flush would add it a second time.
+ */
+@Component
+public class RatingMetricsBuffer {
+
+    private final ConcurrentMap<Long, PlaceMetricsDelta> pending = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    public RatingMetricsBuffer(MeterRegistry meterRegistry) {
+        Gauge.builder("pit.ratings.metrics.pending", pending, ConcurrentMap::size)
+                .description("Places with rating metric deltas waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    // Handles record request operation
+    public void record(PlaceMetricsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean held;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    hold(delta.placeId());
+                    held = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        merge(delta);
+                    }
+                    if (held) {
+                        release(delta.placeId());
+                    }
+                }
+            });
+        } else {
+            merge(delta);
+        }
+    }
+
+    /**
+     * Removes and returns every pending delta. They stay in flight until handed back to
+     * {@link #flushed} or {@link #requeue}.
+     */
+    public List<PlaceMetricsDelta> drain() {
+        List<PlaceMetricsDelta> drained = new ArrayList<>(pending.size());
+        for (Long placeId : pending.keySet()) {
+            hold(placeId);
+            PlaceMetricsDelta delta = pending.remove(placeId);
+            if (delta != null && !delta.isEmpty()) {
+                drained.add(delta);
+            } else {
+                release(placeId);
+            }
+        }
+        return drained;
+    }
+
+    /** Ends the flight of drained deltas once the flush that applied them has committed. */
+    public void flushed(List<PlaceMetricsDelta> deltas) {
+        deltas.forEach(delta -> release(delta.placeId()));
+    }
+
+    /** Puts deltas back after a failed flush; they merge with anything recorded since. */
+    public void requeue(List<PlaceMetricsDelta> deltas) {
+        for (PlaceMetricsDelta delta : deltas) {
+            merge(delta);
+            release(delta.placeId());
+        }
+    }
+
+    /** Whether the place has a delta waiting for, or in, a flush. */
+    public boolean isPending(Long placeId) {
+        return pending.containsKey(placeId) || inFlight.containsKey(placeId);
+    }
+
+    // Handles pending count request operation
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void merge(PlaceMetricsDelta delta) {
+        pending.merge(delta.placeId(), delta, PlaceMetricsDelta::plus);
+    }
+
+    private void hold(Long placeId) {
+        inFlight.merge(placeId, 1, Integer::sum);
+    }
+
+    private void release(Long placeId) {
+        inFlight.computeIfPresent(placeId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.pit.service;
+
+import com.pit.domain.Place;
+import com.pit.repository.PlaceMetricsDelta;
+import com.pit.repository.PlaceMetricsJdbcRepository;
+import com.pit.repository.PlaceRepository;
+import com.pit.service.event.PlaceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Periodically writes the coalesced deltas of {@link RatingMetricsBuffer} to the places
+ * table in one JDBC batch, then notifies the place indexes. Failed batches are re-queued.
+ */
+@Slf4j
+@Component
+public class RatingMetricsFlusher {
+
+    private final RatingMetricsBuffer buffer;
+    private final PlaceMetricsJdbcRepository metricsRepository;
+    private final PlaceRepository placeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter flushedPlaces;
+
+    public RatingMetricsFlusher(RatingMetricsBuffer buffer,
+                                PlaceMetricsJdbcRepository metricsRepository,
+                                PlaceRepository placeRepository,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.metricsRepository = metricsRepository;
+        this.placeRepository = placeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.flushedPlaces = Counter.builder("pit.ratings.metrics.flushed")
+                .description("Place rows updated by write-behind metric flushes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.ratings.write-behind.flush-interval:PT0.5S}")
+    // Handles flush request operation
+    public void flush() {
+        List<PlaceMetricsDelta> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> metricsRepository.applyDeltas(deltas));
+        } catch (RuntimeException ex) {
+            log.error("Flushing rating metrics of {} place(s) failed, re-queued", deltas.size(), ex);
+            buffer.requeue(deltas);
+            return;
+        }
+        buffer.flushed(deltas);
+        flushedPlaces.increment(deltas.size());
+        List<Long> placeIds = deltas.stream().map(PlaceMetricsDelta::placeId).toList();
+        for (Place place : placeRepository.findAllById(placeIds)) {
+            eventPublisher.publishEvent(new PlaceChangedEvent(place, PlaceChangedEvent.Type.METRICS_UPDATED));
+        }
+    }
+
+    @PreDestroy
+    // Handles flush on shutdown request operation
+    public void flushOnShutdown() {
+        flush();
+    }
+}
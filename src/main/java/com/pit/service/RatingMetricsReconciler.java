@@ -0,0 +1,121 @@
+package com.pit.service;
+
+import com.pit.config.RatingProperties;
+import com.pit.domain.Place;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingAggregate;
+import com.pit.repository.RatingRepository;
+import com.pit.service.event.PlaceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background check of the incrementally maintained rating metrics. Places are compared
+ * in batches against COUNT/SUM aggregates of the ratings table; a mismatch is re-checked
+ * under a row lock on the place before being corrected, so concurrent rating writes are
+ * never overwritten. Places with deltas still waiting in the write-behind buffer, or in
+ * flight to the places table, are skipped until they have been flushed. That check is
+ * repeated under the lock once the ratings have been read, since a delta that is in flight
+ * by then may belong to a rating the aggregate already counts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingMetricsReconciler {
+
+    static final int BATCH_SIZE = 500;
+
+    private final PlaceRepository placeRepository;
+    private final RatingRepository ratingRepository;
+    private final RatingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RatingMetricsBuffer metricsBuffer;
+
+    @Scheduled(fixedDelayString = "${app.ratings.reconcile.interval:PT1H}",
+            initialDelayString = "${app.ratings.reconcile.interval:PT1H}")
+    // Handles scheduled reconcile request operation
+    public void scheduledReconcile() {
+        if (properties.getReconcile().isEnabled()) {
+            reconcile();
+        }
+    }
+
+    /** Verifies every place and returns the number of places that had to be corrected. */
+    public int reconcile() {
+        int corrected = 0;
+        long lastId = 0L;
+        List<Place> batch;
+        do {
+            batch = placeRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            Map<Long, RatingAggregate> aggregates = aggregates(batch.stream().map(Place::getId).toList());
+            for (Place place : batch) {
+                if (!matches(place, aggregates.get(place.getId())) && !metricsBuffer.isPending(place.getId())) {
+                    corrected += correct(place.getId()) ? 1 : 0;
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+        if (corrected > 0) {
+            log.warn("Rating metrics reconciliation corrected {} place(s)", corrected);
+        }
+        return corrected;
+    }
+
+    private boolean correct(Long placeId) {
+        Boolean corrected = transactionTemplate.execute(status -> {
+            Place place = placeRepository.findByIdForUpdate(placeId).orElse(null);
+            if (place == null) {
+                return false;
+            }
+            RatingAggregate aggregate = aggregates(List.of(placeId)).get(placeId);
+            if (matches(place, aggregate) || metricsBuffer.isPending(placeId)) {
+                return false;
+            }
+            List<Integer> histogram = histogram(aggregate);
+            log.warn("Place {} rating metrics drifted: scores {} -> {}, sum {}",
+                    placeId, place.getScoreHistogram(), histogram, place.getRatingsSum());
+            place.updateRatingMetrics(histogram);
+            placeRepository.save(place);
+            eventPublisher.publishEvent(new PlaceChangedEvent(place, PlaceChangedEvent.Type.METRICS_UPDATED));
+            return true;
+        });
+        return Boolean.TRUE.equals(corrected);
+    }
+
+    private Map<Long, RatingAggregate> aggregates(List<Long> placeIds) {
+        return ratingRepository.aggregateByPlaceIds(placeIds).stream()
+                .collect(Collectors.toMap(RatingAggregate::getPlaceId, Function.identity()));
+    }
+
+    private static List<Integer> histogram(RatingAggregate aggregate) {
+        if (aggregate == null) {
+            return List.of(0, 0, 0, 0, 0);
+        }
+        return List.of(Math.toIntExact(aggregate.getScore1()), Math.toIntExact(aggregate.getScore2()),
+                Math.toIntExact(aggregate.getScore3()), Math.toIntExact(aggregate.getScore4()),
+                Math.toIntExact(aggregate.getScore5()));
+    }
+
+    private static boolean matches(Place place, RatingAggregate aggregate) {
+        long count = aggregate != null ? aggregate.getCount() : 0L;
+        long sum = aggregate != null && aggregate.getSum() != null ? aggregate.getSum() : 0L;
+        double expectedAvg = count > 0 ? (double) sum / count : 0.0;
+        return place.getRatingsCount() == count
+                && place.getRatingsSum() == sum
+                && place.getScoreHistogram().equals(histogram(aggregate))
+                && Math.abs(place.getAvgRating() - expectedAvg) < 1e-9;
+    }
+}
@@ -1,5 +1,7 @@
 package com.pit.service;
 import com.pit.domain.Rating;
+import com.pit.repository.RatingsRevision;
+import com.pit.web.dto.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.Optional;
@@ -7,5 +9,10 @@ import java.util.Optional;
 public interface RatingService {
     Rating rate(Long placeId, Long userId, int score, String comment);
     Page<Rating> findByPlace(Long placeId, Pageable pageable);
+    /** Revision of a place's ratings, changed by any write to them, read without loading them. */
+    RatingsRevision findRevision(Long placeId);
+    /** Same as {@link #findByPlace} with each rating's author loaded, for pages showing it. */
+    Page<Rating> findByPlaceWithAuthors(Long placeId, Pageable pageable);
+    CursorPage<Rating> findByPlaceAfter(Long placeId, KeysetCursor after, int size);
     Optional<Rating> findByUserAndPlace(Long placeId, Long userId);
 }
@@ -0,0 +1,24 @@
+package com.pit.service.event;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+
+/**
+ * Published by the services whenever a place is created, moderated, deleted or has its
+ * rating metrics refreshed. Listeners keep in-memory read models in sync with the database.
+ * Moderation events also carry the status the place had before, when it is known.
+ */
+public record PlaceChangedEvent(Place place, Type type, PlaceStatus previousStatus) {
+
+    // Kind of change carried by the event.
+    public enum Type { CREATED, APPROVED, REJECTED, DELETED, METRICS_UPDATED }
+
+    public PlaceChangedEvent(Place place, Type type) {
+        this(place, type, null);
+    }
+
+    // Handles is removal request operation
+    public boolean isRemoval() {
+        return type == Type.DELETED;
+    }
+}
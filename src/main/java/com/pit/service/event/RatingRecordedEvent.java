@@ -0,0 +1,9 @@
+package com.pit.service.event;
+
+import java.time.Instant;
+
+/**
+ * Published when a user rates a place for the first time. Feeds the rating activity
+ * read models such as the trending places.
+ */
+public record RatingRecordedEvent(Long placeId, Instant createdAt) {}
@@ -0,0 +1,84 @@
+package com.pit.service.impl;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader returning one record at a time: comma separated fields,
+ * optionally double-quoted, with {@code ""} as an escaped quote and line breaks allowed
+ * inside quotes. An unterminated quote runs to the end of the input.
+ */
+final class CsvReader {
+
+    private final PushbackReader in;
+    private int line = 1;
+    private int recordLine;
+
+    CsvReader(Reader in) {
+        this.in = new PushbackReader(in, 1);
+    }
+
+    /** Next record, or {@code null} at the end of the input. */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == -1) {
+                    quoted = false;
+                    continue;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n' && next != -1) {
+                        in.unread(next);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** Line number at which the last returned record starts. */
+    int recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c = in.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
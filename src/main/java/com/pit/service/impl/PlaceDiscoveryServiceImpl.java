@@ -0,0 +1,142 @@
+package com.pit.service.impl;
+
+import com.pit.service.PlaceDiscoveryService;
+import com.pit.service.index.PlaceClusterIndex;
+import com.pit.service.index.PlaceNameTrie;
+import com.pit.service.index.PlaceSpatialIndex;
+import com.pit.service.index.PlaceTileCache;
+import com.pit.service.index.PlaceTextIndex;
+import com.pit.service.index.PlaceTileEncoder;
+import com.pit.service.index.TileMath;
+import com.pit.service.index.TopRatedIndex;
+import com.pit.service.index.TrendingIndex;
+import com.pit.web.dto.NearbyPlaceDto;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.PlaceSuggestionDto;
+import com.pit.web.dto.RankedPlaceDto;
+import com.pit.web.dto.ViewportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+// Discovery service implementation backed by the in-memory place indexes.
+@Service
+@RequiredArgsConstructor
+public class PlaceDiscoveryServiceImpl implements PlaceDiscoveryService {
+
+    static final double MAX_RADIUS_KM = 200.0;
+    static final int MAX_LIMIT = 100;
+    static final int MAX_VIEWPORT_PLACES = 500;
+    static final int MAX_TILE_FEATURES = 5000;
+    static final int MAX_QUERY_LENGTH = 200;
+    // Places kept first when a tile holds more than MAX_TILE_FEATURES: most rated, then oldest id.
+    static final Comparator<PlaceDto> TILE_PRIORITY = Comparator.comparingInt(PlaceDto::ratingsCount).reversed()
+            .thenComparing(PlaceDto::id);
+
+    private final PlaceSpatialIndex spatialIndex;
+    private final PlaceClusterIndex clusterIndex;
+    private final PlaceTileCache tileCache;
+    private final PlaceTextIndex textIndex;
+    private final PlaceNameTrie nameTrie;
+    private final TopRatedIndex topRatedIndex;
+    private final TrendingIndex trendingIndex;
+
+    @Override
+    // Handles find nearby request operation
+    public List<NearbyPlaceDto> findNearby(double lat, double lng, double radiusKm, int limit) {
+        if (lat < -90.0 || lat > 90.0 || lng < -180.0 || lng > 180.0) {
+            throw new IllegalArgumentException("coordinates out of range");
+        }
+        if (!(radiusKm > 0.0) || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("radiusKm must be in (0, " + MAX_RADIUS_KM + "]");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return spatialIndex.nearest(lat, lng, radiusKm, limit);
+    }
+
+    @Override
+    // Handles find in viewport request operation
+    public ViewportDto findInViewport(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        if (minLat < -90.0 || maxLat > 90.0 || minLng < -180.0 || maxLng > 180.0
+                || minLat > maxLat || minLng > maxLng) {
+            throw new IllegalArgumentException("invalid bounding box");
+        }
+        if (zoom < 0 || zoom > TileMath.MAX_ZOOM) {
+            throw new IllegalArgumentException("zoom must be between 0 and " + TileMath.MAX_ZOOM);
+        }
+        if (zoom < PlaceClusterIndex.MAX_CLUSTER_ZOOM) {
+            return new ViewportDto(zoom, clusterIndex.clusters(minLat, minLng, maxLat, maxLng, zoom), List.of());
+        }
+        return new ViewportDto(zoom, List.of(),
+                spatialIndex.within(minLat, minLng, maxLat, maxLng, MAX_VIEWPORT_PLACES));
+    }
+
+    @Override
+    // Handles render tile request operation
+    public byte[] renderTile(int zoom, long x, long y) {
+        if (!TileMath.isValid(zoom, x, y)) {
+            throw new IllegalArgumentException("invalid tile " + zoom + "/" + x + "/" + y);
+        }
+        return tileCache.get(zoom, x, y, () -> {
+            double north = TileMath.tileLat(y, zoom);
+            double south = TileMath.tileLat(y + 1, zoom);
+            double west = TileMath.tileLng(x, zoom);
+            double east = TileMath.tileLng(x + 1, zoom);
+            // Keep only places whose own tile is this one, so edge points live in exactly one tile.
+            var places = spatialIndex.within(south, west, north, east, Integer.MAX_VALUE).stream()
+                    .filter(p -> TileMath.tileX(p.lng(), zoom) == x && TileMath.tileY(p.lat(), zoom) == y)
+                    .toList();
+            if (places.size() <= MAX_TILE_FEATURES) {
+                return PlaceTileEncoder.encode(zoom, x, y, places, false);
+            }
+            // Busy tile: cut on a total order, so the kept places do not depend on index history.
+            var kept = places.stream().sorted(TILE_PRIORITY).limit(MAX_TILE_FEATURES).toList();
+            return PlaceTileEncoder.encode(zoom, x, y, kept, true);
+        });
+    }
+
+    @Override
+    // Handles search request operation
+    public Page<PlaceDto> search(String query, Pageable pageable) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+        }
+        return textIndex.search(query, pageable);
+    }
+
+    @Override
+    // Handles suggest request operation
+    public List<PlaceSuggestionDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("prefix must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > PlaceNameTrie.TOP_K) {
+            throw new IllegalArgumentException("limit must be between 1 and " + PlaceNameTrie.TOP_K);
+        }
+        return nameTrie.suggest(prefix, limit);
+    }
+
+    @Override
+    // Handles top rated request operation
+    public List<RankedPlaceDto> topRated(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return topRatedIndex.top(limit);
+    }
+
+    @Override
+    // Handles trending request operation
+    public List<RankedPlaceDto> trending(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return trendingIndex.trending(limit);
+    }
+}
@@ -0,0 +1,111 @@
+package com.pit.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pit.repository.PlaceExportRow;
+import com.pit.repository.PlaceJdbcRepository;
+import com.pit.service.PlaceExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+// Place export implementation writing JSON straight from a JDBC cursor.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlaceExportServiceImpl implements PlaceExportService {
+
+    private final PlaceJdbcRepository placeJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    // Writes one row; IOExceptions are tunnelled through the row callback.
+    private interface RowWriter {
+        void write(JsonGenerator json, PlaceExportRow row) throws IOException;
+    }
+
+    @Override
+    // Handles write geo json request operation
+    public void writeGeoJson(OutputStream out) throws IOException {
+        try (JsonGenerator json = generator(out)) {
+            json.writeStartObject();
+            json.writeStringField("type", "FeatureCollection");
+            json.writeArrayFieldStart("features");
+            forEachApproved(json, PlaceExportServiceImpl::writeFeature);
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    @Override
+    // Handles write ndjson request operation
+    public void writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator json = generator(out)) {
+            // Lines are terminated explicitly rather than separated by the default space.
+            json.setRootValueSeparator(null);
+            forEachApproved(json, (generator, row) -> {
+                writeObject(generator, row);
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    private void forEachApproved(JsonGenerator json, RowWriter writer) throws IOException {
+        try {
+            placeJdbcRepository.forEachApproved(row -> {
+                try {
+                    writer.write(json, row);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private JsonGenerator generator(OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        // The servlet container owns the response stream.
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return json;
+    }
+
+    private static void writeFeature(JsonGenerator json, PlaceExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", "Feature");
+        json.writeNumberField("id", row.id());
+        json.writeObjectFieldStart("geometry");
+        json.writeStringField("type", "Point");
+        json.writeArrayFieldStart("coordinates");
+        // GeoJSON positions are [longitude, latitude].
+        json.writeNumber(row.lng());
+        json.writeNumber(row.lat());
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeObjectFieldStart("properties");
+        writeProperties(json, row);
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static void writeObject(JsonGenerator json, PlaceExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", row.id());
+        json.writeNumberField("lat", row.lat());
+        json.writeNumberField("lng", row.lng());
+        writeProperties(json, row);
+        json.writeEndObject();
+    }
+
+    private static void writeProperties(JsonGenerator json, PlaceExportRow row) throws IOException {
+        json.writeStringField("name", row.name());
+        json.writeStringField("description", row.description());
+        json.writeNumberField("avgRating", row.avgRating());
+        json.writeNumberField("ratingsCount", row.ratingsCount());
+        json.writeStringField("createdAt", row.createdAt() != null ? row.createdAt().toString() : null);
+    }
+}
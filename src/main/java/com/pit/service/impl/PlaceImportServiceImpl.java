@@ -0,0 +1,285 @@
+package com.pit.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceJdbcRepository;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.UserRepository;
+import com.pit.service.PlaceImportService;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.web.dto.CreatePlaceRequest;
+import com.pit.web.dto.PlaceImportReport;
+import com.pit.web.dto.PlaceNotificationDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk place import implementation over JDBC batches.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceImportServiceImpl implements PlaceImportService {
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 100;
+    static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final PlaceJdbcRepository placeJdbcRepository;
+    private final PlaceRepository placeRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // Running state of one import: the pending batch and the totals so far.
+    private final class Import {
+        final PlaceStatus status;
+        final Long userId;
+        final List<CreatePlaceRequest> batch = new ArrayList<>(BATCH_SIZE);
+        final List<String> errors = new ArrayList<>();
+        int received;
+        int inserted;
+        int rejected;
+
+        Import(PlaceStatus status, Long userId) {
+            this.status = status;
+            this.userId = userId;
+        }
+
+        void accept(String location, CreatePlaceRequest place) {
+            received++;
+            String invalid = validate(place);
+            if (invalid != null) {
+                reject(location, invalid);
+                return;
+            }
+            batch.add(place);
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(String location, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(location + ": " + reason);
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Long> ids = transactionTemplate.execute(tx -> placeJdbcRepository.insert(batch, status, userId));
+            inserted += batch.size();
+            batch.clear();
+            publishCreated(ids);
+            log.info("Place import: {} rows read, {} inserted, {} rejected so far", received, inserted, rejected);
+        }
+
+        PlaceImportReport finish() {
+            flush();
+            notifyAdmins();
+            log.info("Place import: {} received, {} inserted, {} rejected", received, inserted, rejected);
+            return new PlaceImportReport(received, inserted, rejected, errors);
+        }
+
+        /** The batches inserted so far stay committed: they are reported before the failure propagates. */
+        void abort(Exception failure) {
+            if (received == 0) {
+                return;
+            }
+            notifyAdmins();
+            log.warn("Place import failed after {} received, {} inserted, {} rejected: {}; errors: {}",
+                    received, inserted, rejected, failure.getMessage(), errors);
+        }
+
+        private void notifyAdmins() {
+            if (inserted > 0) {
+                messagingTemplate.convertAndSend("/topic/admin/places",
+                        new PlaceNotificationDto(null, status.name(), inserted + " lieux importés."));
+            }
+        }
+    }
+
+    @Override
+    // Handles import csv request operation
+    public PlaceImportReport importCsv(InputStream csv, PlaceStatus status, Long userId) throws IOException {
+        Import run = start(status, userId);
+        CsvReader reader = new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(column, i);
+        }
+        if (!columns.keySet().containsAll(Set.of("name", "lat", "lng"))) {
+            throw new IllegalArgumentException("CSV header must contain name, lat and lng");
+        }
+
+        try {
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                String location = "line " + reader.recordLine();
+                Double lat = parseCoordinate(field(fields, columns.get("lat")));
+                Double lng = parseCoordinate(field(fields, columns.get("lng")));
+                if (lat == null || lng == null) {
+                    run.received++;
+                    run.reject(location, (lat == null ? "lat" : "lng") + ": must be a number");
+                    continue;
+                }
+                run.accept(location, new CreatePlaceRequest(field(fields, columns.get("name")),
+                        emptyToNull(field(fields, columns.get("description"))), lat, lng));
+            }
+            return run.finish();
+        } catch (IOException | RuntimeException ex) {
+            run.abort(ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    // Handles import geo json request operation
+    public PlaceImportReport importGeoJson(InputStream geoJson, PlaceStatus status, Long userId) throws IOException {
+        Import run = start(status, userId);
+        try (JsonParser parser = objectMapper.createParser(geoJson)) {
+            if (nextRootToken(parser) != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("GeoJSON FeatureCollection expected");
+            }
+            int number = 0;
+            boolean inFeatures = false;
+            try {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (!"features".equals(field) || value != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    inFeatures = true;
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        number++;
+                        acceptFeature(run, "feature " + number, parser.readValueAsTree());
+                    }
+                    inFeatures = false;
+                }
+            } catch (JsonProcessingException ex) {
+                String location = inFeatures ? "feature " + (number + 1) : "document";
+                run.reject(location, "malformed JSON, import stopped");
+            }
+            return run.finish();
+        } catch (IOException | RuntimeException ex) {
+            run.abort(ex);
+            throw ex;
+        }
+    }
+
+    /** First token of the document; a document that is not even JSON is a bad request. */
+    private static JsonToken nextRootToken(JsonParser parser) throws IOException {
+        try {
+            return parser.nextToken();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("GeoJSON FeatureCollection expected", ex);
+        }
+    }
+
+    private Import start(PlaceStatus status, Long userId) {
+        if (status == null || status == PlaceStatus.REJECTED) {
+            throw new IllegalArgumentException("Imported places must be APPROVED or PENDING");
+        }
+        if (userId == null || !userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found: " + userId);
+        }
+        return new Import(status, userId);
+    }
+
+    private static void acceptFeature(Import run, String location, JsonNode feature) {
+        JsonNode geometry = feature.path("geometry");
+        JsonNode coordinates = geometry.path("coordinates");
+        if (!"Point".equals(geometry.path("type").asText())
+                || coordinates.size() < 2 || !coordinates.get(0).isNumber() || !coordinates.get(1).isNumber()) {
+            run.received++;
+            run.reject(location, "geometry must be a Point with numeric coordinates");
+            return;
+        }
+        JsonNode properties = feature.path("properties");
+        // GeoJSON positions are [longitude, latitude].
+        run.accept(location, new CreatePlaceRequest(
+                properties.path("name").isTextual() ? properties.get("name").asText() : null,
+                properties.path("description").isTextual() ? emptyToNull(properties.get("description").asText()) : null,
+                coordinates.get(1).asDouble(), coordinates.get(0).asDouble()));
+    }
+
+    private String validate(CreatePlaceRequest place) {
+        Set<ConstraintViolation<CreatePlaceRequest>> violations = validator.validate(place);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", "));
+        }
+        // Column limit of places.description, checked here so one row cannot fail its whole batch.
+        if (place.description() != null && place.description().length() > MAX_DESCRIPTION_LENGTH) {
+            return "description: size must be at most " + MAX_DESCRIPTION_LENGTH;
+        }
+        return null;
+    }
+
+    /** Refreshes the indexes with the places of one batch, loaded back by id. */
+    private void publishCreated(List<Long> ids) {
+        for (Place place : placeRepository.findAllById(ids)) {
+            eventPublisher.publishEvent(new PlaceChangedEvent(place, PlaceChangedEvent.Type.CREATED));
+        }
+    }
+
+    private static String field(List<String> fields, Integer index) {
+        return index != null && index < fields.size() ? fields.get(index).trim() : null;
+    }
+
+    private static Double parseCoordinate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value);
+            return Double.isFinite(parsed) ? parsed : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
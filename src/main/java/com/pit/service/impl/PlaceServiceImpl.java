@@ -4,25 +4,60 @@ import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
 import com.pit.domain.User;
 import com.pit.repository.PlaceRepository;
+import com.pit.repository.PlaceSummary;
 import com.pit.repository.UserRepository;
+import com.pit.service.KeysetCursor;
+import com.pit.service.PlaceListingCache;
+import com.pit.service.ModerationAction;
 import com.pit.service.PlaceService;
+import com.pit.service.PlaceView;
+import com.pit.service.PlaceViewCache;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.service.index.PlaceDuplicateIndex;
+import com.pit.web.dto.BatchModerationReport;
+import com.pit.web.dto.CursorPage;
 import com.pit.web.dto.PlaceNotificationDto;
+import com.pit.web.mapper.PlaceMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
 // Place service implementation.
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PlaceServiceImpl implements PlaceService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 500;
+
     private final PlaceRepository placeRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlaceDuplicateIndex duplicateIndex;
+    private final PlaceListingCache listingCache;
+    private final PlaceViewCache viewCache;
+    private final PlaceMapper placeMapper;
 
     @Override
     // Handles find by id request operation
@@ -31,25 +66,81 @@ public class PlaceServiceImpl implements PlaceService {
                 .orElseThrow(() -> new IllegalArgumentException("Place not found: " + id));
     }
 
+    /**
+     * Loads the current row under a write lock, bypassing the second-level cache, so a
+     * moderation neither races a metrics flush nor trips on a stale {@code version}.
+     */
+    private Place findByIdForUpdate(Long id) {
+        return placeRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new IllegalArgumentException("Place not found: " + id));
+    }
+
+    // Not transactional, so callers joining a coalesced load wait without holding a connection.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    // Handles find view request operation
+    public PlaceView findView(Long id) {
+        return viewCache.get(id, this::loadView)
+                .orElseThrow(() -> new IllegalArgumentException("Place not found: " + id));
+    }
+
+    private Optional<PlaceView> loadView(Long id) {
+        // The creator stays an uninitialized proxy: only its id is read.
+        return placeRepository.findById(id)
+                .map(p -> new PlaceView(placeMapper.toDto(p),
+                        p.getCreatedBy() != null ? p.getCreatedBy().getId() : null,
+                        p.getVersion(), p.getUpdatedAt()));
+    }
+
     @Override
     // Handles find all request operation
-    public Page<Place> findAll(Pageable pageable) {
-        return placeRepository.findAll(pageable);
+    public Page<PlaceSummary> findAll(Pageable pageable) {
+        return listingCache.page(null, pageable, () -> placeRepository.findAllSummaries(pageable));
     }
 
     @Override
     // Handles find by status request operation
-    public Page<Place> findByStatus(PlaceStatus status, Pageable pageable) {
+    public Page<PlaceSummary> findByStatus(PlaceStatus status, Pageable pageable) {
         if (status == null) {
             return findAll(pageable);
         }
-        return placeRepository.findByStatus(status, pageable);
+        return listingCache.page(status, pageable, () -> placeRepository.findSummariesByStatus(status, pageable));
     }
 
     @Override
     // Handles find approved request operation
-    public Page<Place> findApproved(Pageable pageable) {
-        return placeRepository.findByStatus(PlaceStatus.APPROVED, pageable);
+    public Page<PlaceSummary> findApproved(Pageable pageable) {
+        return findByStatus(PlaceStatus.APPROVED, pageable);
+    }
+
+    @Override
+    // Handles find approved slice request operation
+    public Slice<PlaceSummary> findApprovedSlice(Pageable pageable) {
+        return findSliceByStatus(PlaceStatus.APPROVED, pageable);
+    }
+
+    @Override
+    // Handles find slice by status request operation
+    public Slice<PlaceSummary> findSliceByStatus(PlaceStatus status, Pageable pageable) {
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        return listingCache.slice(status, pageable, () -> placeRepository.findSummarySliceByStatus(status, pageable));
+    }
+
+    @Override
+    // Handles find by status after request operation
+    public CursorPage<PlaceSummary> findByStatusAfter(PlaceStatus status, KeysetCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<PlaceStatus> statuses = status != null ? List.of(status) : List.of(PlaceStatus.values());
+        // One extra row tells whether there is a next page.
+        Limit limit = Limit.of(size + 1);
+        List<PlaceSummary> rows = after == null
+                ? placeRepository.findLatestByStatusIn(statuses, limit)
+                : placeRepository.findByStatusInBefore(statuses, after.createdAt(), after.id(), limit);
+        return KeysetCursor.page(rows, size, p -> new KeysetCursor(p.getCreatedAt(), p.getId()));
     }
 
     @Override
@@ -67,8 +158,10 @@ public class PlaceServiceImpl implements PlaceService {
         p.setLng(lng);
         p.setCreatedBy(author);
         p.setStatus(PlaceStatus.PENDING);
+        p.setDuplicateOfId(duplicateIndex.findDuplicate(name, lat, lng).orElse(null));
 
         Place saved = placeRepository.save(p);
+        eventPublisher.publishEvent(new PlaceChangedEvent(saved, PlaceChangedEvent.Type.CREATED));
         notifyAdminsOfNewPlace(saved);
         return saved;
     }
@@ -77,12 +170,14 @@ public class PlaceServiceImpl implements PlaceService {
     @Transactional
     // Handles approve request operation
     public Place approve(Long id) {
-        Place p = findById(id);
+        Place p = findByIdForUpdate(id);
         if (p.getStatus() == PlaceStatus.APPROVED) {
             return p;
         }
+        PlaceStatus previous = p.getStatus();
         p.setStatus(PlaceStatus.APPROVED);
         Place saved = placeRepository.save(p);
+        eventPublisher.publishEvent(new PlaceChangedEvent(saved, PlaceChangedEvent.Type.APPROVED, previous));
         notifyCreator(saved, "APPROVED", "Votre lieu est en ligne.");
         return saved;
     }
@@ -91,12 +186,14 @@ public class PlaceServiceImpl implements PlaceService {
     @Transactional
     // Handles reject request operation
     public Place reject(Long id) {
-        Place p = findById(id);
+        Place p = findByIdForUpdate(id);
         if (p.getStatus() == PlaceStatus.REJECTED) {
             return p;
         }
+        PlaceStatus previous = p.getStatus();
         p.setStatus(PlaceStatus.REJECTED);
         Place saved = placeRepository.save(p);
+        eventPublisher.publishEvent(new PlaceChangedEvent(saved, PlaceChangedEvent.Type.REJECTED, previous));
         notifyCreator(saved, "REJECTED", "Votre lieu a été refusé.");
         return saved;
     }
@@ -105,8 +202,84 @@ public class PlaceServiceImpl implements PlaceService {
     @Transactional
     // Handles delete request operation
     public void delete(Long id) {
-        Place p = findById(id);
+        Place p = findByIdForUpdate(id);
         placeRepository.delete(p);
+        eventPublisher.publishEvent(new PlaceChangedEvent(p, PlaceChangedEvent.Type.DELETED, p.getStatus()));
+    }
+
+    @Override
+    @Transactional
+    // Handles batch moderate request operation
+    public BatchModerationReport batchModerate(Collection<Long> ids, ModerationAction action) {
+        if (action == null) {
+            throw new IllegalArgumentException("action is required");
+        }
+        Set<Long> requested = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(requested::add);
+        }
+        if (requested.isEmpty() || requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("ids must contain between 1 and " + MAX_BATCH_SIZE + " places");
+        }
+
+        List<Place> found = placeRepository.findAllWithCreatorByIdIn(requested);
+        Set<Long> notFound = new LinkedHashSet<>(requested);
+        found.forEach(p -> notFound.remove(p.getId()));
+
+        PlaceStatus target = switch (action) {
+            case APPROVE -> PlaceStatus.APPROVED;
+            case REJECT -> PlaceStatus.REJECTED;
+            case DELETE -> null;
+        };
+        List<Place> affected = found.stream().filter(p -> target == null || p.getStatus() != target).toList();
+        if (affected.isEmpty()) {
+            return new BatchModerationReport(action, requested.size(), 0, List.copyOf(notFound));
+        }
+
+        List<Long> affectedIds = affected.stream().map(Place::getId).toList();
+        Map<Long, PlaceStatus> previous = new HashMap<>();
+        affected.forEach(p -> previous.put(p.getId(), p.getStatus()));
+        if (target == null) {
+            placeRepository.deleteByIdIn(affectedIds);
+        } else {
+            Instant now = Instant.now();
+            placeRepository.updateStatusByIdIn(affectedIds, target, now);
+            // The loaded entities are detached by the bulk update; align them for the listeners,
+            // including the revision the update bumped, which the rendered cards are keyed on.
+            affected.forEach(p -> {
+                p.setStatus(target);
+                p.setVersion(p.getVersion() + 1);
+                p.setUpdatedAt(now);
+            });
+        }
+        PlaceChangedEvent.Type type = switch (action) {
+            case APPROVE -> PlaceChangedEvent.Type.APPROVED;
+            case REJECT -> PlaceChangedEvent.Type.REJECTED;
+            case DELETE -> PlaceChangedEvent.Type.DELETED;
+        };
+        affected.forEach(p -> eventPublisher.publishEvent(new PlaceChangedEvent(p, type, previous.get(p.getId()))));
+        if (action == ModerationAction.APPROVE) {
+            notifyCreators(affected, "APPROVED", "Votre lieu est en ligne.", " de vos lieux sont en ligne.");
+        } else if (action == ModerationAction.REJECT) {
+            notifyCreators(affected, "REJECTED", "Votre lieu a été refusé.", " de vos lieux ont été refusés.");
+        }
+        return new BatchModerationReport(action, requested.size(), affected.size(), List.copyOf(notFound));
+    }
+
+    // One message per creator, however many of their places were moderated.
+    private void notifyCreators(List<Place> places, String status, String single, String pluralSuffix) {
+        Map<String, List<Place>> byCreator = new LinkedHashMap<>();
+        for (Place place : places) {
+            if (place.getCreatedBy() != null && place.getCreatedBy().getEmail() != null) {
+                byCreator.computeIfAbsent(place.getCreatedBy().getEmail(), k -> new ArrayList<>()).add(place);
+            }
+        }
+        byCreator.forEach((email, owned) -> {
+            PlaceNotificationDto dto = owned.size() == 1
+                    ? new PlaceNotificationDto(owned.get(0).getId(), status, single)
+                    : new PlaceNotificationDto(null, status, owned.size() + pluralSuffix);
+            messagingTemplate.convertAndSendToUser(email, "/queue/places", dto);
+        });
     }
 
     private void notifyCreator(Place place, String status, String message) {
@@ -121,8 +294,11 @@ public class PlaceServiceImpl implements PlaceService {
         String author = place.getCreatedBy() != null && place.getCreatedBy().getEmail() != null
                 ? place.getCreatedBy().getEmail()
                 : "un utilisateur";
+        String hint = place.getDuplicateOfId() != null
+                ? " Doublon possible du lieu #" + place.getDuplicateOfId() + "."
+                : "";
         PlaceNotificationDto dto = new PlaceNotificationDto(place.getId(), "PENDING",
-                "Nouvelle proposition par " + author + ".");
+                "Nouvelle proposition par " + author + "." + hint);
         messagingTemplate.convertAndSend("/topic/admin/places", dto);
     }
 }
@@ -0,0 +1,240 @@
+package com.pit.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pit.config.RatingProperties;
+import com.pit.domain.Place;
+import com.pit.repository.PlaceMetricsJdbcRepository;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingJdbcRepository;
+import com.pit.repository.RatingUpsert;
+import com.pit.service.RatingImportService;
+import com.pit.service.RatingMetricsBuffer;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.web.dto.BulkRatingRecord;
+import com.pit.web.dto.BulkRatingReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Bulk rating import implementation over JDBC batches.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingImportServiceImpl implements RatingImportService {
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 100;
+    static final int MAX_RECOMPUTE_ATTEMPTS = 5;
+
+    private final RatingJdbcRepository ratingJdbcRepository;
+    private final PlaceMetricsJdbcRepository metricsRepository;
+    private final PlaceRepository placeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final RatingMetricsBuffer metricsBuffer;
+    private final RatingProperties properties;
+
+    // Parsed line waiting for its batch.
+    private record Line(int number, BulkRatingRecord record) {}
+
+    // Running totals of one import.
+    private static final class Report {
+        int received;
+        int inserted;
+        int updated;
+        int superseded;
+        int rejected;
+        final List<String> errors = new ArrayList<>();
+        final Set<Long> affectedPlaces = new LinkedHashSet<>();
+
+        void reject(int line, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + line + ": " + reason);
+            }
+        }
+    }
+
+    /**
+     * Batches already written stay committed when the stream or a later batch fails, so
+     * their places are recomputed before the failure is rethrown.
+     */
+    @Override
+    // Handles import ndjson request operation
+    public BulkRatingReport importNdjson(InputStream ndjson) throws IOException {
+        Report report = new Report();
+        try {
+            readAndWrite(ndjson, report);
+        } catch (IOException | RuntimeException ex) {
+            int recomputed = recompute(report.affectedPlaces);
+            log.warn("Bulk rating import failed after {} received, {} inserted, {} updated, {} rejected; "
+                            + "{} places recomputed", report.received, report.inserted, report.updated,
+                    report.rejected, recomputed);
+            throw ex;
+        }
+        int recomputed = recompute(report.affectedPlaces);
+        log.info("Bulk rating import: {} received, {} inserted, {} updated, {} superseded, {} rejected, "
+                        + "{} places recomputed", report.received, report.inserted, report.updated,
+                report.superseded, report.rejected, recomputed);
+        return new BulkRatingReport(report.received, report.inserted, report.updated, report.superseded,
+                report.rejected, recomputed, report.errors);
+    }
+
+    private void readAndWrite(InputStream ndjson, Report report) throws IOException {
+        List<Line> batch = new ArrayList<>(BATCH_SIZE);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        int number = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            number++;
+            if (text.isBlank()) {
+                continue;
+            }
+            report.received++;
+            BulkRatingRecord record;
+            try {
+                record = objectMapper.readValue(text, BulkRatingRecord.class);
+            } catch (JsonProcessingException ex) {
+                report.reject(number, "malformed JSON");
+                continue;
+            }
+            String invalid = validate(record);
+            if (invalid != null) {
+                report.reject(number, invalid);
+                continue;
+            }
+            batch.add(new Line(number, record));
+            if (batch.size() == BATCH_SIZE) {
+                writeBatch(batch, report);
+                batch.clear();
+            }
+        }
+        writeBatch(batch, report);
+    }
+
+    private static String validate(BulkRatingRecord record) {
+        if (record.placeId() == null) {
+            return "placeId is required";
+        }
+        if (record.userEmail() == null || record.userEmail().isBlank()) {
+            return "userEmail is required";
+        }
+        if (record.score() == null || record.score() < 1 || record.score() > 5) {
+            return "score must be between 1 and 5";
+        }
+        return null;
+    }
+
+    /** Resolves the keys of a batch with two set queries and writes it in one transaction. */
+    private void writeBatch(List<Line> batch, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Long> userIds = ratingJdbcRepository.findUserIdsByEmail(
+                    batch.stream().map(line -> line.record().userEmail()).distinct().toList());
+            Set<Long> placeIds = ratingJdbcRepository.findRatablePlaceIds(
+                    batch.stream().map(line -> line.record().placeId()).distinct().toList());
+
+            // The last line wins when a user rates the same place twice in one batch.
+            Map<List<Long>, RatingUpsert> rows = new LinkedHashMap<>();
+            int accepted = 0;
+            for (Line line : batch) {
+                BulkRatingRecord record = line.record();
+                Long userId = userIds.get(record.userEmail());
+                if (userId == null) {
+                    report.reject(line.number(), "unknown user " + record.userEmail());
+                } else if (!placeIds.contains(record.placeId())) {
+                    report.reject(line.number(), "place " + record.placeId() + " not found or not approved");
+                } else {
+                    rows.put(List.of(userId, record.placeId()),
+                            new RatingUpsert(record.placeId(), userId, record.score(), record.comment(),
+                                    record.createdAt()));
+                    accepted++;
+                }
+            }
+            int inserted = ratingJdbcRepository.upsert(new ArrayList<>(rows.values()));
+            report.inserted += inserted;
+            report.updated += rows.size() - inserted;
+            report.superseded += accepted - rows.size();
+            rows.values().forEach(row -> report.affectedPlaces.add(row.placeId()));
+        });
+    }
+
+    /** Recomputes the metrics of each affected place once, then refreshes the indexes. */
+    private int recompute(Set<Long> affectedPlaces) {
+        List<Long> ids = new ArrayList<>(affectedPlaces);
+        int recomputed = 0;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> chunk = recomputeChunk(ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE)));
+            for (Place place : placeRepository.findAllById(chunk)) {
+                eventPublisher.publishEvent(new PlaceChangedEvent(place, PlaceChangedEvent.Type.METRICS_UPDATED));
+            }
+            recomputed += chunk.size();
+        }
+        return recomputed;
+    }
+
+    /**
+     * Recomputes the places of a chunk that have no write-behind delta in flight, and
+     * returns them. The recompute reads the ratings table, which may already hold the
+     * rating of a delta that is still on its way, so the places are checked again after
+     * it: if one of them went in flight, the chunk is rolled back and retried after the
+     * next flush. Places still busy after {@link #MAX_RECOMPUTE_ATTEMPTS} are left to the
+     * reconciler.
+     */
+    private List<Long> recomputeChunk(List<Long> chunk) {
+        List<Long> done = new ArrayList<>(chunk.size());
+        List<Long> remaining = chunk;
+        for (int attempt = 1; ; attempt++) {
+            List<Long> ready = remaining.stream().filter(id -> !metricsBuffer.isPending(id)).toList();
+            Boolean committed = ready.isEmpty() ? Boolean.FALSE : transactionTemplate.execute(status -> {
+                metricsRepository.recomputeFromRatings(ready);
+                if (ready.stream().anyMatch(metricsBuffer::isPending)) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+            if (Boolean.TRUE.equals(committed)) {
+                done.addAll(ready);
+                Set<Long> recomputed = Set.copyOf(ready);
+                remaining = remaining.stream().filter(id -> !recomputed.contains(id)).toList();
+            }
+            if (remaining.isEmpty()) {
+                return done;
+            }
+            if (attempt >= MAX_RECOMPUTE_ATTEMPTS || !awaitFlush()) {
+                log.warn("Rating metrics of {} place(s) not recomputed, deltas still in flight: {}",
+                        remaining.size(), remaining);
+                return done;
+            }
+        }
+    }
+
+    private boolean awaitFlush() {
+        try {
+            Thread.sleep(properties.getWriteBehind().getFlushInterval().toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,36 +1,86 @@
 package com.pit.service.impl;
 
+import com.pit.config.RatingProperties;
 import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
 import com.pit.domain.Rating;
+import com.pit.repository.PlaceMetricsDelta;
+import com.pit.repository.PlaceMetricsJdbcRepository;
 import com.pit.repository.PlaceRepository;
 import com.pit.repository.RatingRepository;
+import com.pit.repository.RatingsRevision;
 import com.pit.repository.UserRepository;
+import com.pit.service.KeysetCursor;
+import com.pit.service.RatingMetricsBuffer;
 import com.pit.service.RatingService;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.service.event.RatingRecordedEvent;
+import com.pit.web.dto.CursorPage;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 // Rating service implementation.
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class RatingServiceImpl implements RatingService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final RatingRepository ratingRepo;
     private final PlaceRepository placeRepo;
     private final UserRepository userRepo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RatingProperties properties;
+    private final RatingMetricsBuffer metricsBuffer;
+    private final PlaceMetricsJdbcRepository metricsRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
 
+    /**
+     * Runs in its own transaction so that a lost race on {@code uk_rating_user_place}
+     * (two first ratings of the same user at once) or a lock timeout can be retried, up
+     * to {@code app.ratings.max-attempts} times: the retry finds the winner's row and
+     * updates it instead.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     // Handles rate request operation
     public Rating rate(Long placeId, Long userId, int score, String comment) {
         if (score < 1 || score > 5) {
             throw new IllegalArgumentException("score must be between 1 and 5");
         }
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> doRate(placeId, userId, score, comment));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException ex) {
+                boolean retryable = !(ex instanceof DataIntegrityViolationException violation) || isDuplicateRating(violation);
+                if (attempt >= maxAttempts || !retryable) {
+                    throw ex;
+                }
+                log.debug("Concurrent rating of place {} by user {} failed, retrying: {}", placeId, userId, ex.getMessage());
+            }
+        }
+    }
+
+    private Rating doRate(Long placeId, Long userId, int score, String comment) {
         Place place = placeRepo.findById(placeId)
                 .orElseThrow(() -> new IllegalArgumentException("Place not found: " + placeId));
         if (place.getStatus() != PlaceStatus.APPROVED) {
@@ -39,19 +89,25 @@ public class RatingServiceImpl implements RatingService {
         var user = userRepo.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
-        Rating rating = ratingRepo.findByUserIdAndPlaceId(userId, placeId)
-                .orElseGet(() -> {
-                    Rating created = new Rating();
-                    created.setPlace(place);
-                    created.setUser(user);
-                    return created;
-                });
+        // Locked so that concurrent updates of the same rating see each other's score.
+        Optional<Rating> existing = ratingRepo.findByUserIdAndPlaceIdForUpdate(userId, placeId);
+        Rating rating = existing.orElseGet(() -> {
+            Rating created = new Rating();
+            created.setPlace(place);
+            created.setUser(user);
+            return created;
+        });
+        // Captured before the update so the metrics can apply the score difference.
+        Integer previousScore = existing.map(Rating::getScore).orElse(null);
 
         rating.setScore(score);
         rating.setComment(comment);
 
-        Rating saved = ratingRepo.save(rating);
-        refreshPlaceMetrics(place);
+        Rating saved = ratingRepo.saveAndFlush(rating);
+        applyScoreChange(place, previousScore, score);
+        if (previousScore == null) {
+            eventPublisher.publishEvent(new RatingRecordedEvent(placeId, saved.getCreatedAt()));
+        }
         return saved;
     }
 
@@ -62,6 +118,39 @@ public class RatingServiceImpl implements RatingService {
         return ratingRepo.findByPlaceId(placeId, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    // Handles find revision request operation
+    public RatingsRevision findRevision(Long placeId) {
+        return ratingRepo.findRevisionByPlaceId(placeId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    // Handles find by place with authors request operation
+    public Page<Rating> findByPlaceWithAuthors(Long placeId, Pageable pageable) {
+        return ratingRepo.findWithUserByPlaceId(placeId, pageable);
+    }
+
+    /**
+     * Newest ratings first, seeking past {@code after} on the (created_at, id) index
+     * instead of skipping rows, and without counting the total.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    // Handles find by place after request operation
+    public CursorPage<Rating> findByPlaceAfter(Long placeId, KeysetCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        // One extra row tells whether there is a next page.
+        Limit limit = Limit.of(size + 1);
+        List<Rating> rows = after == null
+                ? ratingRepo.findLatestByPlaceId(placeId, limit)
+                : ratingRepo.findByPlaceIdBefore(placeId, after.createdAt(), after.id(), limit);
+        return KeysetCursor.page(rows, size, r -> new KeysetCursor(r.getCreatedAt(), r.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     // Handles find by user and place request operation
@@ -69,11 +158,27 @@ public class RatingServiceImpl implements RatingService {
         return ratingRepo.findByUserIdAndPlaceId(userId, placeId);
     }
 
-    private void refreshPlaceMetrics(Place place) {
-        long count = ratingRepo.countByPlaceId(place.getId());
-        Double avg = ratingRepo.findAverageScoreByPlaceId(place.getId());
-        place.setRatingsCount(Math.toIntExact(count));
-        place.setAvgRating(avg != null ? avg : 0.0);
-        placeRepo.save(place);
+    /**
+     * Updates the place metrics in O(1): a new rating adds its score, an updated
+     * rating only applies the difference with its previous score and moves one count
+     * from the previous score bucket to the new one. The increment is done
+     * by the database, so concurrent ratings of the same place never overwrite each
+     * other; the place is then refreshed from its row. In write-behind mode the change
+     * is only buffered and reaches the place row with the next flush.
+     */
+    private void applyScoreChange(Place place, Integer previousScore, int score) {
+        PlaceMetricsDelta delta = PlaceMetricsDelta.ofRating(place.getId(), previousScore, score);
+        if (properties.getMetricsMode() == RatingProperties.MetricsMode.WRITE_BEHIND) {
+            metricsBuffer.record(delta);
+            return;
+        }
+        metricsRepo.applyDelta(delta);
+        entityManager.refresh(place);
+        eventPublisher.publishEvent(new PlaceChangedEvent(place, PlaceChangedEvent.Type.METRICS_UPDATED));
+    }
+
+    private static boolean isDuplicateRating(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains("uk_rating_user_place");
     }
 }
@@ -0,0 +1,184 @@
+package com.pit.service.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform lat/lng bucket grid. Each point lives in exactly one cell, so radius and
+ * bounding-box lookups only visit the cells overlapping the query area.
+ * Not thread-safe: callers guard it with their own lock.
+ */
+public class GeoGrid<T> {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double cellDegrees;
+    private final long lngCells;
+    private final Map<Long, Map<Long, Entry<T>>> cells = new HashMap<>();
+    private final Map<Long, Entry<T>> entries = new HashMap<>();
+
+    public GeoGrid(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 90]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.lngCells = (long) Math.ceil(360.0 / cellDegrees) + 1;
+    }
+
+    // Indexed point with its payload.
+    public record Entry<T>(long id, double lat, double lng, T value) {}
+
+    // Entry matched by a radius query, with its great-circle distance.
+    public record Hit<T>(Entry<T> entry, double distanceKm) {}
+
+    // Handles put request operation
+    public void put(long id, double lat, double lng, T value) {
+        remove(id);
+        Entry<T> entry = new Entry<>(id, lat, lng, value);
+        entries.put(id, entry);
+        cells.computeIfAbsent(cellKey(lat, lng), k -> new HashMap<>()).put(id, entry);
+    }
+
+    // Handles remove request operation
+    public Entry<T> remove(long id) {
+        Entry<T> previous = entries.remove(id);
+        if (previous != null) {
+            long key = cellKey(previous.lat(), previous.lng());
+            Map<Long, Entry<T>> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(id);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+        return previous;
+    }
+
+    // Handles get request operation
+    public Entry<T> get(long id) {
+        return entries.get(id);
+    }
+
+    // Handles values request operation
+    public Collection<Entry<T>> values() {
+        return entries.values();
+    }
+
+    // Handles size request operation
+    public int size() {
+        return entries.size();
+    }
+
+    // Handles clear request operation
+    public void clear() {
+        entries.clear();
+        cells.clear();
+    }
+
+    /**
+     * Returns the entries within {@code radiusKm} of the given point, nearest first,
+     * truncated to {@code limit}.
+     */
+    public List<Hit<T>> nearest(double lat, double lng, double radiusKm, int limit) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double dLng = cosLat < 1e-6 ? 180.0 : Math.min(180.0, radiusKm / (KM_PER_DEGREE * cosLat));
+
+        List<Hit<T>> hits = new ArrayList<>();
+        for (Entry<T> entry : withinBox(lat - dLat, lng - dLng, lat + dLat, lng + dLng)) {
+            double distance = distanceKm(lat, lng, entry.lat(), entry.lng());
+            if (distance <= radiusKm) {
+                hits.add(new Hit<>(entry, distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit<T>::distanceKm).thenComparingLong(h -> h.entry().id()));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * Returns the entries inside the given box. Longitudes outside [-180, 180] wrap
+     * around the antimeridian.
+     */
+    public List<Entry<T>> withinBox(double minLat, double minLng, double maxLat, double maxLng) {
+        List<Entry<T>> result = new ArrayList<>();
+        double south = Math.max(-90.0, minLat);
+        double north = Math.min(90.0, maxLat);
+        if (south > north || entries.isEmpty()) {
+            return result;
+        }
+        if (maxLng - minLng >= 360.0) {
+            collect(south, -180.0, north, 180.0, result);
+        } else if (minLng < -180.0) {
+            collect(south, minLng + 360.0, north, 180.0, result);
+            collect(south, -180.0, north, maxLng, result);
+        } else if (maxLng > 180.0) {
+            collect(south, minLng, north, 180.0, result);
+            collect(south, -180.0, north, maxLng - 360.0, result);
+        } else {
+            collect(south, minLng, north, maxLng, result);
+        }
+        return result;
+    }
+
+    private void collect(double minLat, double minLng, double maxLat, double maxLng, List<Entry<T>> out) {
+        long latFrom = latIndex(minLat);
+        long latTo = latIndex(maxLat);
+        long lngFrom = lngIndex(minLng);
+        long lngTo = lngIndex(maxLng);
+        long cellsInBox = (latTo - latFrom + 1) * (lngTo - lngFrom + 1);
+
+        if (cellsInBox > cells.size()) {
+            // Sparse grid: walking the populated cells is cheaper than walking the box.
+            for (Map<Long, Entry<T>> cell : cells.values()) {
+                addInside(cell, minLat, minLng, maxLat, maxLng, out);
+            }
+            return;
+        }
+        for (long latIdx = latFrom; latIdx <= latTo; latIdx++) {
+            for (long lngIdx = lngFrom; lngIdx <= lngTo; lngIdx++) {
+                Map<Long, Entry<T>> cell = cells.get(latIdx * lngCells + lngIdx);
+                if (cell != null) {
+                    addInside(cell, minLat, minLng, maxLat, maxLng, out);
+                }
+            }
+        }
+    }
+
+    private static <T> void addInside(Map<Long, Entry<T>> cell, double minLat, double minLng,
+                                      double maxLat, double maxLng, List<Entry<T>> out) {
+        for (Entry<T> entry : cell.values()) {
+            if (entry.lat() >= minLat && entry.lat() <= maxLat
+                    && entry.lng() >= minLng && entry.lng() <= maxLng) {
+                out.add(entry);
+            }
+        }
+    }
+
+    private long cellKey(double lat, double lng) {
+        return latIndex(lat) * lngCells + lngIndex(lng);
+    }
+
+    private long latIndex(double lat) {
+        return (long) Math.floor((Math.max(-90.0, Math.min(90.0, lat)) + 90.0) / cellDegrees);
+    }
+
+    private long lngIndex(double lng) {
+        return (long) Math.floor((Math.max(-180.0, Math.min(180.0, lng)) + 180.0) / cellDegrees);
+    }
+
+    /** Great-circle distance between two points (haversine). */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,160 @@
+package com.pit.service.index;
+
+import com.pit.web.dto.ClusterDto;
+import com.pit.web.dto.PlaceDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Precomputed cluster hierarchy over approved places. For every zoom level below
+ * {@link #MAX_CLUSTER_ZOOM} the places are pre-aggregated into Web Mercator cells
+ * ({@link #CELL_SHIFT} levels finer than the map tiles, i.e. 4x4 cells per tile),
+ * so a viewport query only reads the aggregates of the visible cells.
+ */
+@Component
+public class PlaceClusterIndex implements PlaceIndex {
+
+    /** From this zoom level on, the map shows individual places. */
+    public static final int MAX_CLUSTER_ZOOM = 15;
+    static final int CELL_SHIFT = 2;
+
+    private final List<Map<Long, Cell>> levels = new ArrayList<>();
+    private final Map<Long, PlaceDto> places = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PlaceClusterIndex() {
+        for (int zoom = 0; zoom < MAX_CLUSTER_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    // Running aggregate of the places that fall in one cell.
+    private static final class Cell {
+        int count;
+        double sumLat;
+        double sumLng;
+        int ratedCount;
+        double sumRating;
+
+        void apply(PlaceDto place, int sign) {
+            count += sign;
+            sumLat += sign * place.lat();
+            sumLng += sign * place.lng();
+            if (place.ratingsCount() > 0) {
+                ratedCount += sign;
+                sumRating += sign * place.avgRating();
+            }
+        }
+
+        ClusterDto toDto() {
+            return new ClusterDto(sumLat / count, sumLng / count, count,
+                    ratedCount > 0 ? sumRating / ratedCount : null);
+        }
+    }
+
+    @Override
+    // Handles put request operation
+    public void put(PlaceDto place) {
+        lock.writeLock().lock();
+        try {
+            PlaceDto previous = places.put(place.id(), place);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            apply(place, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles remove request operation
+    public void remove(Long placeId) {
+        lock.writeLock().lock();
+        try {
+            PlaceDto previous = places.remove(placeId);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles clear request operation
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            places.clear();
+            levels.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Clusters intersecting the given box at a zoom level below {@link #MAX_CLUSTER_ZOOM}.
+     */
+    public List<ClusterDto> clusters(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        if (zoom < 0 || zoom >= MAX_CLUSTER_ZOOM) {
+            throw new IllegalArgumentException("zoom must be between 0 and " + (MAX_CLUSTER_ZOOM - 1));
+        }
+        int cellZoom = zoom + CELL_SHIFT;
+        long xFrom = TileMath.tileX(minLng, cellZoom);
+        long xTo = TileMath.tileX(maxLng, cellZoom);
+        long yFrom = TileMath.tileY(maxLat, cellZoom);
+        long yTo = TileMath.tileY(minLat, cellZoom);
+
+        List<ClusterDto> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> level = levels.get(zoom);
+            long cellsInBox = (xTo - xFrom + 1) * (yTo - yFrom + 1);
+            if (cellsInBox > level.size()) {
+                for (Map.Entry<Long, Cell> entry : level.entrySet()) {
+                    long x = entry.getKey() >>> 32;
+                    long y = entry.getKey() & 0xFFFFFFFFL;
+                    if (x >= xFrom && x <= xTo && y >= yFrom && y <= yTo) {
+                        result.add(entry.getValue().toDto());
+                    }
+                }
+            } else {
+                for (long x = xFrom; x <= xTo; x++) {
+                    for (long y = yFrom; y <= yTo; y++) {
+                        Cell cell = level.get(cellKey(x, y));
+                        if (cell != null) {
+                            result.add(cell.toDto());
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void apply(PlaceDto place, int sign) {
+        for (int zoom = 0; zoom < MAX_CLUSTER_ZOOM; zoom++) {
+            int cellZoom = zoom + CELL_SHIFT;
+            long key = cellKey(TileMath.tileX(place.lng(), cellZoom), TileMath.tileY(place.lat(), cellZoom));
+            Map<Long, Cell> level = levels.get(zoom);
+            Cell cell = level.computeIfAbsent(key, k -> new Cell());
+            cell.apply(place, sign);
+            if (cell.count <= 0) {
+                level.remove(key);
+            }
+        }
+    }
+
+    private static long cellKey(long x, long y) {
+        return (x << 32) | y;
+    }
+}
@@ -0,0 +1,140 @@
+package com.pit.service.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Spatial grid of the name trigrams of approved and pending places, to flag a new
+ * submission that likely duplicates an existing place. Trigrams follow pg_trgm: each
+ * folded word is padded with two leading blanks and one trailing blank, and two names
+ * are compared by the Jaccard index of their trigram sets. A lookup only reads the few
+ * grid cells around the submitted point. Unlike the {@link PlaceIndex} read models, it
+ * also holds pending places, so it is fed separately by {@link PlaceIndexUpdater}.
+ */
+@Component
+public class PlaceDuplicateIndex {
+
+    /** Roughly 1.1 km per cell, well above the search radius. */
+    static final double CELL_DEGREES = 0.01;
+
+    private final double radiusKm;
+    private final double minSimilarity;
+    private final GeoGrid<long[]> grid = new GeoGrid<>(CELL_DEGREES);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PlaceDuplicateIndex(@Value("${app.places.duplicates.radius-meters:150}") double radiusMeters,
+                               @Value("${app.places.duplicates.min-similarity:0.5}") double minSimilarity) {
+        this.radiusKm = radiusMeters / 1000.0;
+        this.minSimilarity = minSimilarity;
+    }
+
+    // Handles put request operation
+    public void put(long placeId, String name, double lat, double lng) {
+        long[] trigrams = trigrams(name);
+        lock.writeLock().lock();
+        try {
+            grid.put(placeId, lat, lng, trigrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Handles remove request operation
+    public void remove(Long placeId) {
+        lock.writeLock().lock();
+        try {
+            grid.remove(placeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Handles clear request operation
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            grid.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The indexed place within the configured radius whose name is the most similar to
+     * {@code name}, if that similarity reaches the configured minimum; distance breaks ties.
+     */
+    public Optional<Long> findDuplicate(String name, double lat, double lng) {
+        long[] trigrams = trigrams(name);
+        if (trigrams.length == 0) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            Long best = null;
+            double bestSimilarity = 0.0;
+            // Hits come nearest first, so a strictly better similarity is required to switch.
+            for (GeoGrid.Hit<long[]> hit : grid.nearest(lat, lng, radiusKm, Integer.MAX_VALUE)) {
+                double similarity = similarity(trigrams, hit.entry().value());
+                if (similarity >= minSimilarity && similarity > bestSimilarity) {
+                    best = hit.entry().id();
+                    bestSimilarity = similarity;
+                }
+            }
+            return Optional.ofNullable(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Handles size request operation
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return grid.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Jaccard index of two sorted trigram sets. */
+    static double similarity(long[] left, long[] right) {
+        if (left.length == 0 || right.length == 0) {
+            return 0.0;
+        }
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) shared / (left.length + right.length - shared);
+    }
+
+    /** Distinct trigrams of the folded words of {@code name}, packed three chars to a long and sorted. */
+    static long[] trigrams(String name) {
+        TreeSet<Long> trigrams = new TreeSet<>();
+        for (String word : TextNormalizer.fold(name).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int k = 0; k + 3 <= padded.length(); k++) {
+                trigrams.add(((long) padded.charAt(k) << 32) | ((long) padded.charAt(k + 1) << 16) | padded.charAt(k + 2));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+}
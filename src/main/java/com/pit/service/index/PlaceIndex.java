@@ -0,0 +1,19 @@
+package com.pit.service.index;
+
+import com.pit.web.dto.PlaceDto;
+
+/**
+ * In-memory read model over APPROVED places. Implementations are fed by
+ * {@link PlaceIndexUpdater} and must be safe for concurrent reads and writes.
+ */
+public interface PlaceIndex {
+
+    /** Inserts or replaces the entry for the given place. */
+    void put(PlaceDto place);
+
+    /** Drops the entry for the given place id, if any. */
+    void remove(Long placeId);
+
+    /** Drops every entry, before a full rebuild. */
+    void clear();
+}
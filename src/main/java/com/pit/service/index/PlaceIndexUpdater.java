@@ -0,0 +1,120 @@
+package com.pit.service.index;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingActivity;
+import com.pit.repository.RatingRepository;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.service.event.RatingRecordedEvent;
+import com.pit.web.mapper.PlaceMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps every {@link PlaceIndex} in sync with the database: a full load at startup,
+ * then one update per committed {@link PlaceChangedEvent}. Committed first ratings
+ * ({@link RatingRecordedEvent}) feed the {@link TrendingIndex}, whose recent window is
+ * reloaded with the rest on rebuild. The {@link PlaceDuplicateIndex} is fed the same way
+ * but also holds pending places. The indexes are fed in their {@code @Order}: caches
+ * derived from another index, like the {@link PlaceTileCache}, come after it.
+ * Events of concurrent commits may arrive out of order: the last applied {@code @Version}
+ * of each place is kept, and an older snapshot is dropped rather than overwriting a newer one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceIndexUpdater {
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceMapper placeMapper;
+    private final List<PlaceIndex> indexes;
+    private final RatingRepository ratingRepository;
+    private final TrendingIndex trendingIndex;
+    private final PlaceDuplicateIndex duplicateIndex;
+    // Last applied version by place id; deleted places keep Long.MAX_VALUE, ids are never reused.
+    private final Map<Long, Long> appliedVersions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    // Handles rebuild request operation
+    public void rebuild() {
+        indexes.forEach(PlaceIndex::clear);
+        duplicateIndex.clear();
+        appliedVersions.clear();
+        int loaded = load(PlaceStatus.APPROVED);
+        int pending = load(PlaceStatus.PENDING);
+        Instant now = Instant.now();
+        List<RatingActivity> activity = ratingRepository.findActivitySince(trendingIndex.windowStart(now));
+        activity.forEach(rating -> trendingIndex.record(rating.getPlaceId(), rating.getCreatedAt(), now));
+        log.info("Place indexes rebuilt with {} approved places, {} pending places and {} recent ratings",
+                loaded, pending, activity.size());
+    }
+
+    private int load(PlaceStatus status) {
+        long lastId = 0L;
+        int loaded = 0;
+        List<Place> batch;
+        do {
+            batch = placeRepository.findTop500ByStatusAndIdGreaterThanOrderByIdAsc(status, lastId);
+            for (Place place : batch) {
+                apply(place, false);
+                lastId = place.getId();
+            }
+            loaded += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    // Handles on place changed request operation
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (event.place() == null || event.place().getId() == null) {
+            return;
+        }
+        apply(event.place(), event.isRemoval());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    // Handles on rating recorded request operation
+    public void onRatingRecorded(RatingRecordedEvent event) {
+        trendingIndex.record(event.placeId(), event.createdAt() != null ? event.createdAt() : Instant.now());
+    }
+
+    private void apply(Place place, boolean removed) {
+        long version = removed ? Long.MAX_VALUE : place.getVersion();
+        // Applied inside compute, so two snapshots of the same place never interleave.
+        appliedVersions.compute(place.getId(), (id, applied) -> {
+            if (applied != null && applied > version) {
+                log.debug("Dropped stale version {} of place {}, version {} is indexed", version, id, applied);
+                return applied;
+            }
+            update(place, removed);
+            return version;
+        });
+    }
+
+    private void update(Place place, boolean removed) {
+        if (!removed && place.getStatus() == PlaceStatus.APPROVED) {
+            var dto = placeMapper.toDto(place);
+            indexes.forEach(index -> index.put(dto));
+        } else {
+            indexes.forEach(index -> index.remove(place.getId()));
+        }
+        if (!removed && place.getStatus() != PlaceStatus.REJECTED) {
+            duplicateIndex.put(place.getId(), place.getName(), place.getLat(), place.getLng());
+        } else {
+            duplicateIndex.remove(place.getId());
+        }
+    }
+}
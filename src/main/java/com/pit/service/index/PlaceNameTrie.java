@@ -0,0 +1,247 @@
+package com.pit.service.index;
+
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.PlaceSuggestionDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie over the folded names of approved places, for type-ahead suggestions.
+ * Every word start of a name is indexed, so "eif" suggests "Tour Eiffel". Children are
+ * kept in sorted parallel arrays rather than maps, and each node lazily caches its best
+ * {@link #TOP_K} place ids; a change only invalidates the caches along its own paths, so
+ * a lookup merges at most a handful of cached lists. Keys are capped at
+ * {@link #MAX_KEY_LENGTH} characters to bound the node count; longer prefixes are
+ * matched on their first {@code MAX_KEY_LENGTH} characters.
+ */
+@Component
+public class PlaceNameTrie implements PlaceIndex {
+
+    public static final int TOP_K = 10;
+    static final int MAX_KEY_LENGTH = 24;
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long[] NO_IDS = new long[0];
+
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Comparator<Long> ranking = Comparator
+            .comparing((Long id) -> entries.get(id).ratingsCount(), Comparator.reverseOrder())
+            .thenComparing(id -> entries.get(id).avgRating(), Comparator.reverseOrder())
+            .thenComparing(id -> entries.get(id).name())
+            .thenComparing(Comparator.naturalOrder());
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Ranking data and indexed keys of one place.
+    private record Entry(String name, int ratingsCount, double avgRating, List<String> keys) {}
+
+    private static final class Node {
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        long[] ids = NO_IDS;
+        volatile long[] top;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node node = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = node;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return node;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return ids.length == 0 && keys.length == 0;
+        }
+    }
+
+    @Override
+    // Handles put request operation
+    public void put(PlaceDto place) {
+        lock.writeLock().lock();
+        try {
+            unindex(place.id());
+            List<String> keys = keysOf(place.name());
+            entries.put(place.id(), new Entry(place.name(), place.ratingsCount(), place.avgRating(), keys));
+            for (String key : keys) {
+                insert(key, place.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles remove request operation
+    public void remove(Long placeId) {
+        lock.writeLock().lock();
+        try {
+            unindex(placeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles clear request operation
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            root.keys = NO_KEYS;
+            root.children = NO_CHILDREN;
+            root.ids = NO_IDS;
+            root.top = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Best-ranked places having a name word that starts with {@code prefix}. */
+    public List<PlaceSuggestionDto> suggest(String prefix, int limit) {
+        String folded = TextNormalizer.fold(prefix).trim();
+        if (folded.length() > MAX_KEY_LENGTH) {
+            folded = folded.substring(0, MAX_KEY_LENGTH);
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < folded.length() && node != null; i++) {
+                node = node.child(folded.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            long[] top = topOf(node);
+            List<PlaceSuggestionDto> result = new ArrayList<>(Math.min(limit, top.length));
+            for (int i = 0; i < top.length && i < limit; i++) {
+                result.add(new PlaceSuggestionDto(top[i], entries.get(top[i]).name()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] topOf(Node node) {
+        long[] cached = node.top;
+        if (cached != null) {
+            return cached;
+        }
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (long id : node.ids) {
+            candidates.add(id);
+        }
+        for (Node child : node.children) {
+            for (long id : topOf(child)) {
+                candidates.add(id);
+            }
+        }
+        long[] computed = candidates.stream()
+                .sorted(ranking)
+                .limit(TOP_K)
+                .mapToLong(Long::longValue)
+                .toArray();
+        node.top = computed;
+        return computed;
+    }
+
+    private void insert(String key, long id) {
+        Node node = root;
+        node.top = null;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+            node.top = null;
+        }
+        for (long existing : node.ids) {
+            if (existing == id) {
+                return;
+            }
+        }
+        node.ids = Arrays.copyOf(node.ids, node.ids.length + 1);
+        node.ids[node.ids.length - 1] = id;
+    }
+
+    private void unindex(Long placeId) {
+        Entry previous = entries.remove(placeId);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous.keys()) {
+            delete(root, key, 0, placeId);
+        }
+    }
+
+    private void delete(Node node, String key, int depth, long id) {
+        node.top = null;
+        if (depth == key.length()) {
+            node.ids = Arrays.stream(node.ids).filter(existing -> existing != id).toArray();
+            return;
+        }
+        char c = key.charAt(depth);
+        Node child = node.child(c);
+        if (child == null) {
+            return;
+        }
+        delete(child, key, depth + 1, id);
+        if (child.isEmpty()) {
+            node.removeChild(c);
+        }
+    }
+
+    /** Folded name suffixes starting at each word boundary. */
+    static List<String> keysOf(String name) {
+        String folded = TextNormalizer.fold(name).trim();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < folded.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(folded.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(folded.charAt(i - 1)));
+            if (wordStart) {
+                keys.add(folded.substring(i, Math.min(folded.length(), i + MAX_KEY_LENGTH)));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,91 @@
+package com.pit.service.index;
+
+import com.pit.web.dto.NearbyPlaceDto;
+import com.pit.web.dto.PlaceDto;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Grid-backed spatial index over approved places.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // updated before the tile cache evicts, see PlaceIndexUpdater
+public class PlaceSpatialIndex implements PlaceIndex {
+
+    /** Roughly 5.5 km per cell at the equator. */
+    static final double CELL_DEGREES = 0.05;
+
+    private final GeoGrid<PlaceDto> grid = new GeoGrid<>(CELL_DEGREES);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    // Handles put request operation
+    public void put(PlaceDto place) {
+        lock.writeLock().lock();
+        try {
+            grid.put(place.id(), place.lat(), place.lng(), place);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles remove request operation
+    public void remove(Long placeId) {
+        lock.writeLock().lock();
+        try {
+            grid.remove(placeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles clear request operation
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            grid.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Handles nearest request operation
+    public List<NearbyPlaceDto> nearest(double lat, double lng, double radiusKm, int limit) {
+        lock.readLock().lock();
+        try {
+            return grid.nearest(lat, lng, radiusKm, limit).stream()
+                    .map(hit -> new NearbyPlaceDto(hit.entry().value(), hit.distanceKm()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Handles within request operation
+    public List<PlaceDto> within(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        lock.readLock().lock();
+        try {
+            return grid.withinBox(minLat, minLng, maxLat, maxLng).stream()
+                    .limit(limit)
+                    .map(GeoGrid.Entry::value)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Handles size request operation
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return grid.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
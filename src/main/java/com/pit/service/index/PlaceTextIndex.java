@@ -0,0 +1,176 @@
+package com.pit.service.index;
+
+import com.pit.web.dto.PlaceDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over the name and description of approved places. Every query term must
+ * match (the last one as a prefix, for search-as-you-type); hits are ranked by a TF-IDF
+ * score where name terms weigh more than description terms.
+ */
+@Component
+public class PlaceTextIndex implements PlaceIndex {
+
+    static final float NAME_WEIGHT = 3.0f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Indexed place with the weight of each of its terms.
+    private record Document(PlaceDto place, Map<String, Float> terms) {}
+
+    // Place matched by a query, with its relevance score.
+    private record Hit(PlaceDto place, double score) {}
+
+    @Override
+    // Handles put request operation
+    public void put(PlaceDto place) {
+        Map<String, Float> terms = new HashMap<>();
+        TextNormalizer.tokens(place.name()).forEach(t -> terms.merge(t, NAME_WEIGHT, Float::sum));
+        TextNormalizer.tokens(place.description()).forEach(t -> terms.merge(t, DESCRIPTION_WEIGHT, Float::sum));
+
+        lock.writeLock().lock();
+        try {
+            unindex(place.id());
+            documents.put(place.id(), new Document(place, terms));
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(place.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles remove request operation
+    public void remove(Long placeId) {
+        lock.writeLock().lock();
+        try {
+            unindex(placeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    // Handles clear request operation
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Handles search request operation
+    public Page<PlaceDto> search(String query, Pageable pageable) {
+        List<String> terms = TextNormalizer.tokens(query);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<Hit> hits;
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                boolean prefix = i == terms.size() - 1;
+                Map<Long, Double> termScores = score(terms.get(i), prefix);
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    return Page.empty(pageable);
+                }
+            }
+            hits = scores.entrySet().stream()
+                    .map(e -> new Hit(documents.get(e.getKey()).place(), e.getValue()))
+                    .sorted(Comparator.comparingDouble(Hit::score).reversed()
+                            .thenComparing(h -> h.place().ratingsCount(), Comparator.reverseOrder())
+                            .thenComparing(h -> h.place().id()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<PlaceDto> content = hits.subList(from, to).stream().map(Hit::place).toList();
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    // Handles size request operation
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String term, boolean prefix) {
+        Map<Long, Double> scores = new HashMap<>();
+        Map<String, Map<Long, Float>> matching = prefix
+                ? postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                : (postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of());
+        Collection<Map.Entry<String, Map<Long, Float>>> expansions = matching.entrySet();
+        if (expansions.size() > MAX_PREFIX_EXPANSIONS) {
+            // Keep the exact term and then the completions found in the most places, so a short
+            // prefix does not trade common terms for alphabetically earlier, rare ones.
+            expansions = expansions.stream()
+                    .sorted(Comparator.<Map.Entry<String, Map<Long, Float>>, Boolean>comparing(e -> !e.getKey().equals(term))
+                            .thenComparing(e -> e.getValue().size(), Comparator.reverseOrder())
+                            .thenComparing(Map.Entry::getKey))
+                    .limit(MAX_PREFIX_EXPANSIONS)
+                    .toList();
+        }
+        for (Map.Entry<String, Map<Long, Float>> entry : expansions) {
+            double idf = Math.log(1.0 + (double) documents.size() / entry.getValue().size());
+            // An exact match outranks a completion of the same prefix.
+            double boost = entry.getKey().equals(term) ? 1.0 : 0.8;
+            entry.getValue().forEach((placeId, weight) ->
+                    scores.merge(placeId, weight * idf * boost, Math::max));
+        }
+        return scores;
+    }
+
+    private static Map<Long, Double> intersect(Map<Long, Double> left, Map<Long, Double> right) {
+        Map<Long, Double> result = new HashMap<>();
+        left.forEach((placeId, score) -> {
+            Double other = right.get(placeId);
+            if (other != null) {
+                result.put(placeId, score + other);
+            }
+        });
+        return result;
+    }
+
+    private void unindex(Long placeId) {
+        Document previous = documents.remove(placeId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms().keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(placeId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
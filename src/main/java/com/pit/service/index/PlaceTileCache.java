@@ -0,0 +1,107 @@
+package com.pit.service.index;
+
+import com.pit.web.dto.PlaceDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of encoded map tiles. It listens to the place index feed so that a change
+ * to one place only evicts the tiles containing that place, one per zoom level. It is fed
+ * after the {@link PlaceSpatialIndex} it renders from, so a tile rendered before the
+ * spatial index holds a change is always caught by the eviction guard of {@link #get}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class PlaceTileCache implements PlaceIndex {
+
+    private final int maxEntries;
+    private final LinkedHashMap<Long, byte[]> tiles;
+    private final Map<Long, PlaceDto> places = new HashMap<>();
+    private long evictions;
+
+    public PlaceTileCache(@Value("${app.tiles.cache-size:4096}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.tiles = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+                return size() > PlaceTileCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached tile or renders it. A tile rendered while an eviction happened
+     * is served but not cached, so it can never outlive the change that raced with it.
+     */
+    public byte[] get(int zoom, long x, long y, Supplier<byte[]> renderer) {
+        long key = tileKey(zoom, x, y);
+        long evictionsBefore;
+        synchronized (this) {
+            byte[] cached = tiles.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            evictionsBefore = evictions;
+        }
+        byte[] rendered = renderer.get();
+        synchronized (this) {
+            if (evictions == evictionsBefore) {
+                tiles.put(key, rendered);
+            }
+        }
+        return rendered;
+    }
+
+    @Override
+    // Handles put request operation
+    public synchronized void put(PlaceDto place) {
+        PlaceDto previous = places.put(place.id(), place);
+        if (place.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            evictTilesContaining(previous);
+        }
+        evictTilesContaining(place);
+    }
+
+    @Override
+    // Handles remove request operation
+    public synchronized void remove(Long placeId) {
+        PlaceDto previous = places.remove(placeId);
+        if (previous != null) {
+            evictTilesContaining(previous);
+        }
+    }
+
+    @Override
+    // Handles clear request operation
+    public synchronized void clear() {
+        places.clear();
+        tiles.clear();
+        evictions++;
+    }
+
+    // Handles size request operation
+    public synchronized int size() {
+        return tiles.size();
+    }
+
+    private void evictTilesContaining(PlaceDto place) {
+        for (int zoom = 0; zoom <= TileMath.MAX_ZOOM; zoom++) {
+            tiles.remove(tileKey(zoom, TileMath.tileX(place.lng(), zoom), TileMath.tileY(place.lat(), zoom)));
+        }
+        evictions++;
+    }
+
+    private static long tileKey(int zoom, long x, long y) {
+        return ((long) zoom << 50) | (x << 25) | y;
+    }
+}
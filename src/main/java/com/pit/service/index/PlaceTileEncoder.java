@@ -0,0 +1,69 @@
+package com.pit.service.index;
+
+import com.pit.web.dto.PlaceDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Packs the places of one map tile into a compact binary payload.
+ *
+ * <pre>
+ * header   : "PIT" 0x02 (magic + format version), varint feature count,
+ *            byte   flags (FLAG_TRUNCATED: the tile holds more places than it lists)
+ * feature  : varint id delta (features sorted by id),
+ *            varint x, varint y  (position inside the tile, 0..EXTENT-1, origin top-left),
+ *            byte   avgRating * 10 (0..50),
+ *            varint ratingsCount,
+ *            varint name length + UTF-8 name bytes
+ * </pre>
+ * Varints are unsigned LEB128, as in Protocol Buffers.
+ */
+public final class PlaceTileEncoder {
+
+    public static final int EXTENT = 4096;
+    public static final int FLAG_TRUNCATED = 0x01;
+    static final byte[] MAGIC = {'P', 'I', 'T', 2};
+
+    private PlaceTileEncoder() {
+    }
+
+    // Handles encode request operation
+    public static byte[] encode(int zoom, long x, long y, List<PlaceDto> places, boolean truncated) {
+        List<PlaceDto> sorted = places.stream().sorted(Comparator.comparing(PlaceDto::id)).toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + sorted.size() * 24);
+        out.writeBytes(MAGIC);
+        writeVarint(out, sorted.size());
+        out.write(truncated ? FLAG_TRUNCATED : 0);
+
+        double scale = (double) (1L << zoom);
+        long previousId = 0;
+        for (PlaceDto place : sorted) {
+            writeVarint(out, place.id() - previousId);
+            previousId = place.id();
+            writeVarint(out, quantize(TileMath.mercatorX(place.lng()) * scale - x));
+            writeVarint(out, quantize(TileMath.mercatorY(place.lat()) * scale - y));
+            out.write((int) Math.round(Math.max(0.0, Math.min(5.0, place.avgRating())) * 10));
+            writeVarint(out, Math.max(0, place.ratingsCount()));
+            byte[] name = place.name() != null ? place.name().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            writeVarint(out, name.length);
+            out.writeBytes(name);
+        }
+        return out.toByteArray();
+    }
+
+    private static int quantize(double offsetInTile) {
+        int value = (int) Math.floor(offsetInTile * EXTENT);
+        return Math.max(0, Math.min(EXTENT - 1, value));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
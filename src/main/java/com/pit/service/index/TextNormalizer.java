@@ -0,0 +1,47 @@
+package com.pit.service.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Accent- and case-folding shared by the text indexes, so that "Église" and "eglise",
+ * or "Cœur" and "coeur", produce the same terms.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "le", "la", "les", "de", "du", "des", "un", "une", "et", "en", "au", "aux",
+            "sur", "par", "pour", "dans", "ou", "the", "of", "and");
+
+    private TextNormalizer() {
+    }
+
+    /** Lower-cases, expands ligatures and strips diacritics. */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT)
+                .replace("œ", "oe")
+                .replace("æ", "ae")
+                .replace("ß", "ss");
+        return COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    /** Folded words of at least two characters, stop words removed, in text order. */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(fold(text))) {
+            if (token.length() >= 2 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
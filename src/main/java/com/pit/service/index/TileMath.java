@@ -0,0 +1,59 @@
+package com.pit.service.index;
+
+/**
+ * Web Mercator ("slippy map") tile arithmetic shared by the clustering grid and the tile endpoint.
+ */
+public final class TileMath {
+
+    public static final int MAX_ZOOM = 22;
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    private TileMath() {
+    }
+
+    // Handles tile x request operation
+    public static long tileX(double lng, int zoom) {
+        long n = 1L << zoom;
+        long x = (long) Math.floor(mercatorX(lng) * n);
+        return Math.max(0, Math.min(n - 1, x));
+    }
+
+    // Handles tile y request operation
+    public static long tileY(double lat, int zoom) {
+        long n = 1L << zoom;
+        long y = (long) Math.floor(mercatorY(lat) * n);
+        return Math.max(0, Math.min(n - 1, y));
+    }
+
+    /** Longitude projected to [0, 1], west to east. */
+    public static double mercatorX(double lng) {
+        return (lng + 180.0) / 360.0;
+    }
+
+    /** Latitude projected to [0, 1], north to south. */
+    public static double mercatorY(double lat) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat));
+        double rad = Math.toRadians(clamped);
+        return (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0;
+    }
+
+    /** Longitude of the west edge of column {@code x}. */
+    public static double tileLng(long x, int zoom) {
+        return x / (double) (1L << zoom) * 360.0 - 180.0;
+    }
+
+    /** Latitude of the north edge of row {@code y}. */
+    public static double tileLat(long y, int zoom) {
+        double n = Math.PI - 2.0 * Math.PI * y / (double) (1L << zoom);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    // Handles is valid request operation
+    public static boolean isValid(int zoom, long x, long y) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            return false;
+        }
+        long n = 1L << zoom;
+        return x >= 0 && x < n && y >= 0 && y < n;
+    }
+}
@@ -0,0 +1,90 @@
+package com.pit.service.index;
+
+import com.pit.config.RatingProperties;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.RankedPlaceDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Rated approved places kept sorted by their Bayesian average
+ * {@code (C * m + sum) / (C + n)}, where {@code m} is the prior mean and {@code C} the
+ * number of votes it weighs as. A place with few ratings stays close to the prior, so a
+ * single 5.0 does not outrank a 4.7 from hundreds of ratings. Every metrics update
+ * re-positions one entry in O(log n), and reading the top K walks the first K entries.
+ */
+@Component
+public class TopRatedIndex implements PlaceIndex {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(e -> e.place().ratingsCount(), Comparator.reverseOrder())
+            .thenComparing(e -> e.place().id());
+
+    private final double priorMean;
+    private final int minVotes;
+    private final NavigableSet<Entry> ranking = new TreeSet<>(RANKING);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    public TopRatedIndex(RatingProperties properties) {
+        this.priorMean = properties.getRanking().getPriorMean();
+        this.minVotes = Math.max(0, properties.getRanking().getMinVotes());
+    }
+
+    // Ranked place with its precomputed score.
+    private record Entry(PlaceDto place, double score) {}
+
+    @Override
+    // Handles put request operation
+    public synchronized void put(PlaceDto place) {
+        Entry previous = entries.remove(place.id());
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        if (place.ratingsCount() <= 0) {
+            return;
+        }
+        Entry entry = new Entry(place, score(place.avgRating(), place.ratingsCount()));
+        entries.put(place.id(), entry);
+        ranking.add(entry);
+    }
+
+    @Override
+    // Handles remove request operation
+    public synchronized void remove(Long placeId) {
+        Entry previous = entries.remove(placeId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    @Override
+    // Handles clear request operation
+    public synchronized void clear() {
+        entries.clear();
+        ranking.clear();
+    }
+
+    /** The {@code limit} best ranked places, best first. */
+    public synchronized List<RankedPlaceDto> top(int limit) {
+        List<RankedPlaceDto> result = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Entry> it = ranking.iterator();
+        while (it.hasNext() && result.size() < limit) {
+            Entry entry = it.next();
+            result.add(new RankedPlaceDto(entry.place(), entry.score()));
+        }
+        return result;
+    }
+
+    double score(double avgRating, int ratingsCount) {
+        return (minVotes * priorMean + avgRating * ratingsCount) / (minVotes + ratingsCount);
+    }
+}
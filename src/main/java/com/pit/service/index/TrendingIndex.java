@@ -0,0 +1,127 @@
+package com.pit.service.index;
+
+import com.pit.config.RatingProperties;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.RankedPlaceDto;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rating activity of approved places over a sliding window, kept as a ring of hourly
+ * buckets of per-place counts. A place's trending score sums its buckets, each one
+ * halved every {@code halfLife}, so yesterday's burst fades behind this hour's. Buckets
+ * that leave the window are recycled in place; nothing is read from the database.
+ */
+@Component
+public class TrendingIndex implements PlaceIndex {
+
+    static final long BUCKET_SECONDS = 3600;
+
+    private final Bucket[] buckets;
+    private final double decayPerBucket;
+    private final Map<Long, PlaceDto> places = new HashMap<>();
+
+    public TrendingIndex(RatingProperties properties) {
+        RatingProperties.Trending trending = properties.getTrending();
+        int bucketCount = (int) Math.max(1, trending.getWindow().toSeconds() / BUCKET_SECONDS);
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+        double halfLifeBuckets = Math.max(1, trending.getHalfLife().toSeconds()) / (double) BUCKET_SECONDS;
+        this.decayPerBucket = Math.pow(0.5, 1.0 / halfLifeBuckets);
+    }
+
+    // Ratings counted per place during one hour.
+    private static final class Bucket {
+        long hour = Long.MIN_VALUE;
+        final Map<Long, Integer> counts = new HashMap<>();
+    }
+
+    @Override
+    // Handles put request operation
+    public synchronized void put(PlaceDto place) {
+        places.put(place.id(), place);
+    }
+
+    @Override
+    // Handles remove request operation
+    public synchronized void remove(Long placeId) {
+        places.remove(placeId);
+        for (Bucket bucket : buckets) {
+            bucket.counts.remove(placeId);
+        }
+    }
+
+    @Override
+    // Handles clear request operation
+    public synchronized void clear() {
+        places.clear();
+        for (Bucket bucket : buckets) {
+            bucket.hour = Long.MIN_VALUE;
+            bucket.counts.clear();
+        }
+    }
+
+    /** Counts one rating of {@code placeId} made at {@code at}; ratings outside the window are ignored. */
+    public synchronized void record(Long placeId, Instant at, Instant now) {
+        long hour = Math.min(hourOf(at), hourOf(now));
+        if (hour <= hourOf(now) - buckets.length) {
+            return;
+        }
+        Bucket bucket = buckets[(int) Math.floorMod(hour, (long) buckets.length)];
+        if (bucket.hour != hour) {
+            bucket.hour = hour;
+            bucket.counts.clear();
+        }
+        bucket.counts.merge(placeId, 1, Integer::sum);
+    }
+
+    // Handles record request operation
+    public void record(Long placeId, Instant at) {
+        record(placeId, at, Instant.now());
+    }
+
+    /** The {@code limit} approved places with the highest decayed activity, hottest first. */
+    public synchronized List<RankedPlaceDto> trending(int limit, Instant now) {
+        long nowHour = hourOf(now);
+        Map<Long, Double> scores = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            long age = nowHour - bucket.hour;
+            if (bucket.hour == Long.MIN_VALUE || age < 0 || age >= buckets.length) {
+                continue;
+            }
+            double weight = Math.pow(decayPerBucket, age);
+            bucket.counts.forEach((placeId, count) -> {
+                if (places.containsKey(placeId)) {
+                    scores.merge(placeId, count * weight, Double::sum);
+                }
+            });
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(e -> new RankedPlaceDto(places.get(e.getKey()), e.getValue()))
+                .toList();
+    }
+
+    // Handles trending request operation
+    public List<RankedPlaceDto> trending(int limit) {
+        return trending(limit, Instant.now());
+    }
+
+    /** Start of the sliding window ending at {@code now}. */
+    public Instant windowStart(Instant now) {
+        return Instant.ofEpochSecond((hourOf(now) - buckets.length + 1) * BUCKET_SECONDS);
+    }
+
+    private static long hourOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), BUCKET_SECONDS);
+    }
+}
@@ -1,12 +1,14 @@
 package com.pit.web.controller;
 
-import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceSummary;
+import com.pit.service.ModerationAction;
 import com.pit.service.PlaceService;
+import com.pit.web.dto.BatchModerationReport;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -18,6 +20,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.List;
+
 // Admin UI endpoints for moderation.
 @Controller
 @RequestMapping("/admin/places")
@@ -33,8 +37,9 @@ public class AdminPlaceController {
                             Model model) {
         PageRequest pageable = PageRequest.of(Math.max(page, 0), 10,
                 Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Place> pending = placeService.findByStatus(PlaceStatus.PENDING, pageable);
-        Page<Place> rejected = placeService.findByStatus(PlaceStatus.REJECTED, pageable);
+        // Slices: one query per section, no COUNT, like the home page.
+        Slice<PlaceSummary> pending = placeService.findSliceByStatus(PlaceStatus.PENDING, pageable);
+        Slice<PlaceSummary> rejected = placeService.findSliceByStatus(PlaceStatus.REJECTED, pageable);
 
         model.addAttribute("pendingPage", pending);
         model.addAttribute("rejectedPage", rejected);
@@ -76,4 +81,27 @@ public class AdminPlaceController {
         }
         return "redirect:/admin/places";
     }
+
+    @PostMapping("/batch")
+    // Handles batch request operation
+    public String batch(@RequestParam(name = "ids", required = false) List<Long> ids,
+                        @RequestParam ModerationAction action,
+                        RedirectAttributes redirect) {
+        if (ids == null || ids.isEmpty()) {
+            redirect.addFlashAttribute("error", "Sélectionnez au moins un lieu.");
+            return "redirect:/admin/places";
+        }
+        try {
+            BatchModerationReport report = placeService.batchModerate(ids, action);
+            String verb = switch (action) {
+                case APPROVE -> " lieu(x) publié(s).";
+                case REJECT -> " lieu(x) refusé(s).";
+                case DELETE -> " lieu(x) supprimé(s).";
+            };
+            redirect.addFlashAttribute("success", report.affected() + verb);
+        } catch (IllegalArgumentException ex) {
+            redirect.addFlashAttribute("error", "Sélection invalide.");
+        }
+        return "redirect:/admin/places";
+    }
 }
@@ -0,0 +1,58 @@
+package com.pit.web.controller;
+
+import com.pit.domain.PlaceStatus;
+import com.pit.service.AuthService;
+import com.pit.service.PlaceImportService;
+import com.pit.web.dto.PlaceImportReport;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// REST endpoints for bulk place imports.
+@Tag(name = "admin-place-import-controller")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminPlaceImportController {
+
+    private final PlaceImportService placeImportService;
+    private final AuthService authService;
+
+    @PostMapping(value = "/places:import", consumes = "text/csv")
+    // Handles import csv request operation
+    public ResponseEntity<PlaceImportReport> importCsv(InputStream body,
+                                                       @RequestParam(defaultValue = "APPROVED") PlaceStatus status)
+            throws IOException {
+        Long userId = authService.getCurrentUserId();
+        if (userId == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        try {
+            return ResponseEntity.ok(placeImportService.importCsv(body, status, userId));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping(value = "/places:import", consumes = {"application/geo+json", "application/json"})
+    // Handles import geo json request operation
+    public ResponseEntity<PlaceImportReport> importGeoJson(InputStream body,
+                                                           @RequestParam(defaultValue = "APPROVED") PlaceStatus status)
+            throws IOException {
+        Long userId = authService.getCurrentUserId();
+        if (userId == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        try {
+            return ResponseEntity.ok(placeImportService.importGeoJson(body, status, userId));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.pit.web.controller;
+
+import com.pit.service.RatingImportService;
+import com.pit.web.dto.BulkRatingReport;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// REST endpoints for rating administration.
+@Tag(name = "admin-rating-controller")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminRatingController {
+
+    private final RatingImportService ratingImportService;
+
+    @PostMapping(value = "/ratings:bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    // Handles bulk import request operation
+    public ResponseEntity<BulkRatingReport> bulkImport(InputStream body) throws IOException {
+        return ResponseEntity.ok(ratingImportService.importNdjson(body));
+    }
+}
@@ -0,0 +1,87 @@
+package com.pit.web.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Strong entity tags of the API resources, derived from what the response is built from
+ * rather than from its serialized body, so a revalidation can be answered with 304
+ * before any JSON is written.
+ */
+final class EntityTags {
+
+    /**
+     * Clients keep the response but revalidate it on every use. Private, because what a
+     * caller may see depends on who they are.
+     */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private EntityTags() {
+    }
+
+    /** Tag of one place revision. */
+    static String ofPlace(Long id, long version) {
+        return "place-" + id + "-" + version;
+    }
+
+    /**
+     * Tag of one listing page: a digest of its position, of its total when known and of
+     * the revision of every element, in order.
+     */
+    static <T> String ofPage(String kind, Slice<T> page, Function<T, String> revision) {
+        MessageDigest digest = sha256();
+        String header = page.getNumber() + ":" + page.getSize() + ":"
+                + (page instanceof Page<?> p ? p.getTotalElements() : page.hasNext()) + "\n";
+        digest.update(header.getBytes(StandardCharsets.UTF_8));
+        for (T element : page) {
+            digest.update((revision.apply(element) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return kind + "-" + HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    /**
+     * Tag of one page of a place's ratings, from the revision of all of them: known before
+     * the page is queried, so a revalidation costs a single aggregate.
+     */
+    static String ofRatings(Long placeId, long count, Instant updatedAt, Pageable pageable) {
+        String key = placeId + ":" + count + ":" + updatedAt + ":"
+                + (pageable.isPaged() ? pageable.getPageNumber() + ":" + pageable.getPageSize() : "unpaged")
+                + ":" + pageable.getSort();
+        byte[] hash = sha256().digest(key.getBytes(StandardCharsets.UTF_8));
+        return "ratings-" + HexFormat.of().formatHex(hash, 0, 16);
+    }
+
+    /** Whether an If-None-Match header lists the given tag, weakly compared as for a GET. */
+    static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals("\"" + tag + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.pit.web.controller;
 
-import com.pit.domain.Place;
-import com.pit.domain.PlaceStatus;
 import com.pit.domain.Rating;
+import com.pit.repository.PlaceSummary;
 import com.pit.service.AuthService;
+import com.pit.service.PlaceDiscoveryService;
 import com.pit.service.PlaceService;
+import com.pit.service.PlaceView;
 import com.pit.service.RatingService;
 import com.pit.web.view.PlaceForm;
 import com.pit.web.view.RatingForm;
@@ -12,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -30,18 +32,24 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public class PageController {
 
+    static final int TOP_RATED_ON_HOME = 6;
+    static final int TRENDING_ON_HOME = 3;
+
     private final PlaceService placeService;
     private final RatingService ratingService;
     private final AuthService authService;
+    private final PlaceDiscoveryService discoveryService;
 
     @GetMapping("/")
     // Handles home request operation
     public String home(@RequestParam(defaultValue = "0") int page,
                        Model model) {
         int pageIndex = Math.max(page, 0);
-        Page<Place> places = placeService.findApproved(PageRequest.of(pageIndex, 9,
+        Slice<PlaceSummary> places = placeService.findApprovedSlice(PageRequest.of(pageIndex, 9,
                 Sort.by(Sort.Direction.DESC, "createdAt")));
         model.addAttribute("placesPage", places);
+        model.addAttribute("topRated", discoveryService.topRated(TOP_RATED_ON_HOME));
+        model.addAttribute("trending", discoveryService.trending(TRENDING_ON_HOME));
         authService.getCurrentUser().ifPresent(user -> model.addAttribute("currentUser", user));
 
         if (!model.containsAttribute("placeForm")) {
@@ -56,23 +64,23 @@ public class PageController {
                         @RequestParam(defaultValue = "0") int page,
                         @RequestParam(name = "newRating", required = false) String newRating,
                         Model model) {
-        Place place;
+        PlaceView view;
         try {
-            place = placeService.findById(id);
+            view = placeService.findView(id);
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
-        if (!canView(place)) {
+        if (!canView(view)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
-        model.addAttribute("place", place);
-        model.addAttribute("canRate", place.getStatus() == PlaceStatus.APPROVED);
+        model.addAttribute("place", view.place());
+        model.addAttribute("canRate", view.isApproved());
         boolean isAdmin = authService.isCurrentUserAdmin();
         model.addAttribute("canDelete", isAdmin);
 
         int pageIndex = Math.max(page, 0);
         PageRequest pageable = PageRequest.of(pageIndex, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Rating> ratingsPage = ratingService.findByPlace(id, pageable);
+        Page<Rating> ratingsPage = ratingService.findByPlaceWithAuthors(id, pageable);
         model.addAttribute("ratingsPage", ratingsPage);
 
         RatingForm ratingForm = model.containsAttribute("ratingForm")
@@ -154,14 +162,12 @@ public class PageController {
         return "login";
     }
 
-    private boolean canView(Place place) {
-        if (place.getStatus() == PlaceStatus.APPROVED) {
+    private boolean canView(PlaceView view) {
+        if (view.isApproved()) {
             return true;
         }
-        Long currentUserId = authService.getCurrentUserId();
         boolean isAdmin = authService.isCurrentUserAdmin();
-        boolean isOwner = currentUserId != null && place.getCreatedBy() != null
-                && place.getCreatedBy().getId().equals(currentUserId);
+        boolean isOwner = view.isCreatedBy(authService.getCurrentUserId());
         return isAdmin || isOwner;
     }
 }
@@ -1,11 +1,20 @@
 package com.pit.web.controller;
 
-import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceSummary;
 import com.pit.service.AuthService;
+import com.pit.service.KeysetCursor;
+import com.pit.service.PlaceDiscoveryService;
+import com.pit.service.PlaceExportService;
 import com.pit.service.PlaceService;
+import com.pit.service.PlaceView;
 import com.pit.web.dto.CreatePlaceRequest;
+import com.pit.web.dto.CursorPage;
+import com.pit.web.dto.NearbyPlaceDto;
 import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.PlaceSuggestionDto;
+import com.pit.web.dto.RankedPlaceDto;
+import com.pit.web.dto.ViewportDto;
 import com.pit.web.mapper.PlaceMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,12 +22,17 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 
 // REST endpoints for places.
 @Tag(name = "place-controller")
@@ -30,51 +44,173 @@ public class PlaceController {
     private final PlaceService placeService;
     private final PlaceMapper placeMapper;
     private final AuthService authService;
+    private final PlaceDiscoveryService discoveryService;
+    private final PlaceExportService exportService;
 
     @GetMapping
     // Handles list request operation
     public ResponseEntity<Page<PlaceDto>> list(@ParameterObject Pageable pageable,
                                                @RequestParam(defaultValue = "APPROVED") String status) {
         boolean isAdmin = authService.isCurrentUserAdmin();
-        Page<PlaceDto> page;
+        Page<PlaceSummary> page;
         try {
             if ("ALL".equalsIgnoreCase(status)) {
                 if (!isAdmin) {
                     return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
                 }
-                page = placeService.findAll(pageable).map(placeMapper::toDto);
+                page = placeService.findAll(pageable);
             } else {
                 PlaceStatus filter = PlaceStatus.valueOf(status.toUpperCase());
                 if (!isAdmin && filter != PlaceStatus.APPROVED) {
                     return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
                 }
-                page = placeService.findByStatus(filter, pageable).map(placeMapper::toDto);
+                page = placeService.findByStatus(filter, pageable);
             }
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.badRequest().build();
         }
-        return ResponseEntity.ok(page);
+        // A matching If-None-Match is answered with 304 before the page is serialized.
+        return ResponseEntity.ok()
+                .cacheControl(EntityTags.REVALIDATE)
+                .eTag(EntityTags.ofPage("places", page, p -> p.getId() + ":" + p.getVersion()))
+                .body(page.map(placeMapper::toDto));
+    }
+
+    @GetMapping(params = "after")
+    // Handles list after request operation
+    public ResponseEntity<CursorPage<PlaceDto>> listAfter(@RequestParam String after,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          @RequestParam(defaultValue = "APPROVED") String status) {
+        boolean isAdmin = authService.isCurrentUserAdmin();
+        try {
+            PlaceStatus filter = "ALL".equalsIgnoreCase(status) ? null : PlaceStatus.valueOf(status.toUpperCase());
+            if (!isAdmin && filter != PlaceStatus.APPROVED) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            return ResponseEntity.ok(placeService.findByStatusAfter(filter, KeysetCursor.decode(after), size)
+                    .map(placeMapper::toDto));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/nearby")
+    // Handles nearby request operation
+    public ResponseEntity<List<NearbyPlaceDto>> nearby(@RequestParam double lat,
+                                                       @RequestParam double lng,
+                                                       @RequestParam(defaultValue = "5") double radiusKm,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(discoveryService.findNearby(lat, lng, radiusKm, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/viewport")
+    // Handles viewport request operation
+    public ResponseEntity<ViewportDto> viewport(@RequestParam double minLat,
+                                                @RequestParam double minLng,
+                                                @RequestParam double maxLat,
+                                                @RequestParam double maxLng,
+                                                @RequestParam int zoom) {
+        try {
+            return ResponseEntity.ok(discoveryService.findInViewport(minLat, minLng, maxLat, maxLng, zoom));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/search")
+    // Handles search request operation
+    public ResponseEntity<Page<PlaceDto>> search(@RequestParam String q,
+                                                 @ParameterObject Pageable pageable) {
+        try {
+            return ResponseEntity.ok(discoveryService.search(q, pageable));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/suggest")
+    // Handles suggest request operation
+    public ResponseEntity<List<PlaceSuggestionDto>> suggest(@RequestParam String prefix,
+                                                            @RequestParam(defaultValue = "8") int limit) {
+        try {
+            return ResponseEntity.ok(discoveryService.suggest(prefix, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/top")
+    // Handles top request operation
+    public ResponseEntity<List<RankedPlaceDto>> top(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(discoveryService.topRated(limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/trending")
+    // Handles trending request operation
+    public ResponseEntity<List<RankedPlaceDto>> trending(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(discoveryService.trending(limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export")
+    // Handles export request operation
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "geojson") String format) {
+        StreamingResponseBody body;
+        MediaType type;
+        switch (format) {
+            case "geojson" -> {
+                body = exportService::writeGeoJson;
+                type = MediaType.parseMediaType("application/geo+json");
+            }
+            case "ndjson" -> {
+                body = exportService::writeNdjson;
+                type = MediaType.APPLICATION_NDJSON;
+            }
+            default -> {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("places." + format).build().toString())
+                .body(body);
     }
 
     @GetMapping("/{id}")
     // Handles get request operation
     public ResponseEntity<PlaceDto> get(@PathVariable Long id) {
-        Place place;
+        PlaceView view;
         try {
-            place = placeService.findById(id);
+            view = placeService.findView(id);
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        if (place.getStatus() != PlaceStatus.APPROVED) {
-            Long currentUserId = authService.getCurrentUserId();
+        if (!view.isApproved()) {
             boolean isAdmin = authService.isCurrentUserAdmin();
-            boolean isOwner = currentUserId != null && place.getCreatedBy() != null
-                    && place.getCreatedBy().getId().equals(currentUserId);
+            boolean isOwner = view.isCreatedBy(authService.getCurrentUserId());
             if (!isAdmin && !isOwner) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
             }
         }
-        return ResponseEntity.ok(placeMapper.toDto(place));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(EntityTags.REVALIDATE)
+                .eTag(EntityTags.ofPlace(id, view.version()));
+        if (view.updatedAt() != null) {
+            response.lastModified(view.updatedAt());
+        }
+        return response.body(view.place());
     }
 
     @PostMapping
@@ -0,0 +1,35 @@
+package com.pit.web.controller;
+
+import com.pit.service.PlaceService;
+import com.pit.web.dto.BatchModerationReport;
+import com.pit.web.dto.BatchModerationRequest;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// REST endpoints for moderating several places at once.
+@Tag(name = "place-moderation-controller")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class PlaceModerationController {
+
+    private final PlaceService placeService;
+
+    @PostMapping("/places:batchModerate")
+    // Handles batch moderate request operation
+    public ResponseEntity<BatchModerationReport> batchModerate(@Valid @RequestBody BatchModerationRequest req) {
+        try {
+            return ResponseEntity.ok(placeService.batchModerate(req.ids(), req.action()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
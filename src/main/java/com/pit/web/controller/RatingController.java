@@ -1,10 +1,13 @@
 package com.pit.web.controller;
 
-import com.pit.domain.Place;
-import com.pit.domain.PlaceStatus;
+import com.pit.domain.Rating;
+import com.pit.repository.RatingsRevision;
 import com.pit.service.AuthService;
+import com.pit.service.KeysetCursor;
 import com.pit.service.PlaceService;
+import com.pit.service.PlaceView;
 import com.pit.service.RatingService;
+import com.pit.web.dto.CursorPage;
 import com.pit.web.dto.RatingDto;
 import com.pit.web.dto.RatingRequest;
 import com.pit.web.mapper.RatingMapper;
@@ -14,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -33,14 +37,44 @@ public class RatingController {
     @GetMapping
     // Handles list request operation
     public ResponseEntity<Page<RatingDto>> list(@PathVariable Long placeId,
-                                                @ParameterObject Pageable pageable) {
+                                                @ParameterObject Pageable pageable,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                String ifNoneMatch) {
         var permission = ensurePlaceVisible(placeId);
         if (permission.getStatusCode().isError()) {
             return ResponseEntity.status(permission.getStatusCode()).build();
         }
-        Page<RatingDto> page = ratingService.findByPlace(placeId, pageable)
-                .map(ratingMapper::toDto);
-        return ResponseEntity.ok(page);
+        // The tag comes from the revision of the place's ratings, so a 304 skips the page and its COUNT.
+        RatingsRevision revision = ratingService.findRevision(placeId);
+        String etag = EntityTags.ofRatings(placeId, revision.getCount(), revision.getUpdatedAt(), pageable);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(EntityTags.REVALIDATE)
+                    .eTag(etag)
+                    .build();
+        }
+        Page<Rating> page = ratingService.findByPlace(placeId, pageable);
+        return ResponseEntity.ok()
+                .cacheControl(EntityTags.REVALIDATE)
+                .eTag(etag)
+                .body(page.map(ratingMapper::toDto));
+    }
+
+    @GetMapping(params = "after")
+    // Handles list after request operation
+    public ResponseEntity<CursorPage<RatingDto>> listAfter(@PathVariable Long placeId,
+                                                           @RequestParam String after,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        var permission = ensurePlaceVisible(placeId);
+        if (permission.getStatusCode().isError()) {
+            return ResponseEntity.status(permission.getStatusCode()).build();
+        }
+        try {
+            return ResponseEntity.ok(ratingService.findByPlaceAfter(placeId, KeysetCursor.decode(after), size)
+                    .map(ratingMapper::toDto));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/me")
@@ -84,19 +118,17 @@ public class RatingController {
     }
 
     private ResponseEntity<Void> ensurePlaceVisible(Long placeId) {
-        Place place;
+        PlaceView view;
         try {
-            place = placeService.findById(placeId);
+            view = placeService.findView(placeId);
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        if (place.getStatus() == PlaceStatus.APPROVED) {
+        if (view.isApproved()) {
             return ResponseEntity.ok().build();
         }
-        Long currentUserId = authService.getCurrentUserId();
         boolean isAdmin = authService.isCurrentUserAdmin();
-        boolean isOwner = currentUserId != null && place.getCreatedBy() != null
-                && place.getCreatedBy().getId().equals(currentUserId);
+        boolean isOwner = view.isCreatedBy(authService.getCurrentUserId());
         if (isAdmin || isOwner) {
             return ResponseEntity.ok().build();
         }
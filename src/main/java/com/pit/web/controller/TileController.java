@@ -0,0 +1,41 @@
+package com.pit.web.controller;
+
+import com.pit.service.PlaceDiscoveryService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+// REST endpoint serving binary map tiles of approved places.
+@Tag(name = "tile-controller")
+@RestController
+@RequestMapping("/api/tiles")
+@RequiredArgsConstructor
+public class TileController {
+
+    static final MediaType TILE_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.pit.tile");
+
+    private final PlaceDiscoveryService discoveryService;
+
+    @GetMapping("/{z}/{x}/{y}")
+    // Handles tile request operation
+    public ResponseEntity<byte[]> tile(@PathVariable int z, @PathVariable long x, @PathVariable long y) {
+        byte[] body;
+        try {
+            body = discoveryService.renderTile(z, x, y);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(TILE_MEDIA_TYPE)
+                .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic())
+                .body(body);
+    }
+}
@@ -0,0 +1,8 @@
+package com.pit.web.dto;
+
+import com.pit.service.ModerationAction;
+
+import java.util.List;
+
+// Outcome of a batch moderation; places already in the target status are not counted as affected.
+public record BatchModerationReport(ModerationAction action, int requested, int affected, List<Long> notFound) {}
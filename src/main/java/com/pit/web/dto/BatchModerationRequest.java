@@ -0,0 +1,10 @@
+package com.pit.web.dto;
+
+import com.pit.service.ModerationAction;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+// Places to moderate in one call and the decision to apply to all of them.
+public record BatchModerationRequest(@NotEmpty List<Long> ids, @NotNull ModerationAction action) {}
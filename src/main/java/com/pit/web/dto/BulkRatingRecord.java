@@ -0,0 +1,6 @@
+package com.pit.web.dto;
+
+import java.time.Instant;
+
+// One line of a bulk rating import; createdAt is the time of the rating on the source site, if known.
+public record BulkRatingRecord(Long placeId, String userEmail, Integer score, String comment, Instant createdAt) {}
@@ -0,0 +1,8 @@
+package com.pit.web.dto;
+
+import java.util.List;
+
+// Outcome of a bulk rating import; errors are capped and reference input line numbers.
+// Superseded lines were overridden by a later line of the same batch for the same user and place.
+public record BulkRatingReport(int received, int inserted, int updated, int superseded, int rejected,
+                               int placesRecomputed, List<String> errors) {}
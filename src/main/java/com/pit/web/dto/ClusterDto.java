@@ -0,0 +1,4 @@
+package com.pit.web.dto;
+
+// Group of approved places rendered as one marker on a zoomed-out map.
+public record ClusterDto(double lat, double lng, int count, Double avgRating) {}
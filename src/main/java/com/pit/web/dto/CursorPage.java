@@ -0,0 +1,13 @@
+package com.pit.web.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Slice of a keyset paginated listing; nextCursor is null on the last page.
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    // Handles map request operation
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,4 @@
+package com.pit.web.dto;
+
+// Place returned by a proximity search, with its distance from the query point.
+public record NearbyPlaceDto(PlaceDto place, double distanceKm) {}
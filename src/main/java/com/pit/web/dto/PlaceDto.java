@@ -1,7 +1,9 @@
 package com.pit.web.dto;
 
 import java.time.Instant;
+import java.util.List;
 
-// Application component.
+// Application component. The version is the place revision, bumped by every change.
 public record PlaceDto(Long id, String name, String description, double lat, double lng,
-                       String status, double avgRating, int ratingsCount, Instant createdAt) {}
+                       String status, double avgRating, int ratingsCount, Instant createdAt,
+                       List<Integer> scoreHistogram, long version) {}
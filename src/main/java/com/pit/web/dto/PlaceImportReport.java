@@ -0,0 +1,6 @@
+package com.pit.web.dto;
+
+import java.util.List;
+
+// Outcome of a bulk place import; errors are capped and reference input lines or features.
+public record PlaceImportReport(int received, int inserted, int rejected, List<String> errors) {}
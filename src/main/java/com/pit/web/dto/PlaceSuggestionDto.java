@@ -0,0 +1,4 @@
+package com.pit.web.dto;
+
+// Type-ahead suggestion for a place name.
+public record PlaceSuggestionDto(Long id, String name) {}
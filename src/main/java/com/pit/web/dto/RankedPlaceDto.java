@@ -0,0 +1,4 @@
+package com.pit.web.dto;
+
+// Place of a leaderboard, with the score it is ranked by.
+public record RankedPlaceDto(PlaceDto place, double score) {}
@@ -0,0 +1,6 @@
+package com.pit.web.dto;
+
+import java.util.List;
+
+// Map viewport content: clusters when zoomed out, individual places when zoomed in.
+public record ViewportDto(int zoom, List<ClusterDto> clusters, List<PlaceDto> places) {}
@@ -1,5 +1,6 @@
 package com.pit.web.mapper;
 import com.pit.domain.Place;
+import com.pit.repository.PlaceSummary;
 import com.pit.web.dto.PlaceDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -10,4 +11,7 @@ import org.mapstruct.Mapping;
 public interface PlaceMapper {
     @Mapping(target="status", expression = "java(place.getStatus().name())")
     PlaceDto toDto(Place place);
+
+    @Mapping(target="status", expression = "java(summary.getStatus().name())")
+    PlaceDto toDto(PlaceSummary summary);
 }
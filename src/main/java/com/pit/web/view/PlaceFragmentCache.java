@@ -0,0 +1,124 @@
+package com.pit.web.view;
+
+import com.pit.repository.PlaceSummary;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.web.dto.PlaceDto;
+import jakarta.servlet.ServletContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rendered HTML of the place fragments of {@code fragments/place.html}, cached by
+ * fragment, place id, place version and locale. Pages splice it in with {@code th:utext}
+ * (the fragments escape their own text), so the parts that depend on the user or the
+ * request (navigation, forms, CSRF tokens) stay rendered per request. Every change to a
+ * place bumps its version, and its {@link PlaceChangedEvent} also evicts every fragment of
+ * the place after commit, so a revision is never served from a copy the event superseded.
+ * A fragment rendered while an eviction happened is served but not cached.
+ */
+@Component("placeFragmentCache") // referenced by name from the templates
+public class PlaceFragmentCache {
+
+    static final String TEMPLATE = "fragments/place";
+
+    // One rendered variant of a fragment for one place revision.
+    private record Key(String variant, Long placeId, long version, Locale locale) {}
+
+    private final ITemplateEngine templateEngine;
+    private final String contextPath;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final LinkedHashMap<Key, String> fragments;
+    private long evictions;
+
+    public PlaceFragmentCache(ITemplateEngine templateEngine,
+                              ServletContext servletContext,
+                              @Value("${app.places.fragment-cache.enabled:true}") boolean enabled,
+                              @Value("${app.places.fragment-cache.max-entries:2048}") int maxEntries) {
+        this.templateEngine = templateEngine;
+        this.contextPath = servletContext.getContextPath();
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.fragments = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                return size() > PlaceFragmentCache.this.maxEntries;
+            }
+        };
+    }
+
+    /** Card of a ranked place, as on the leaderboards of the home page. */
+    public String card(PlaceDto place, Locale locale) {
+        return render("card", "card", place.id(), place.version(), locale,
+                Map.of("place", place, "detailed", false));
+    }
+
+    /** Card of a listed place, with its coordinates and submission date. */
+    public String detailedCard(PlaceSummary place, Locale locale) {
+        return render("detailed-card", "card", place.getId(), place.getVersion(), locale,
+                Map.of("place", place, "detailed", true));
+    }
+
+    /** Status, name and description at the top of the detail page. */
+    public String detailHeader(PlaceDto place, Locale locale) {
+        return render("detail-header", "detail-header", place.id(), place.version(), locale, Map.of("place", place));
+    }
+
+    /** Rating metrics and coordinates of the detail page. */
+    public String detailMetrics(PlaceDto place, Locale locale) {
+        return render("detail-metrics", "detail-metrics", place.id(), place.version(), locale, Map.of("place", place));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    // Handles on place changed request operation
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (event.place() != null) {
+            evict(event.place().getId());
+        }
+    }
+
+    // Handles evict request operation
+    public synchronized void evict(Long placeId) {
+        fragments.keySet().removeIf(key -> key.placeId().equals(placeId));
+        evictions++;
+    }
+
+    // Handles size request operation
+    public synchronized int size() {
+        return fragments.size();
+    }
+
+    private String render(String variant, String fragment, Long placeId, long version, Locale locale,
+                          Map<String, Object> variables) {
+        Key key = new Key(variant, placeId, version, locale);
+        long evictionsBefore = 0;
+        if (enabled) {
+            synchronized (this) {
+                String cached = fragments.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+                evictionsBefore = evictions;
+            }
+        }
+        Context context = new Context(locale, variables);
+        context.setVariable("contextPath", contextPath);
+        String html = templateEngine.process(TEMPLATE, Set.of(fragment), context);
+        if (enabled) {
+            synchronized (this) {
+                if (evictions == evictionsBefore) {
+                    fragments.put(key, html);
+                }
+            }
+        }
+        return html;
+    }
+}
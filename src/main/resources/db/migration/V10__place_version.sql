@@ -0,0 +1,6 @@
+-- Revision of each place, bumped by every moderation and rating metrics refresh.
+-- It backs the ETag and Last-Modified validators of the place resources.
+ALTER TABLE places ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE places ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+UPDATE places SET updated_at = created_at;
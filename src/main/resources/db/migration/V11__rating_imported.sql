@@ -0,0 +1,3 @@
+-- Ratings migrated by a bulk import. They keep their source timestamp and are left out
+-- of the trending activity, which only counts ratings made on this site.
+ALTER TABLE ratings ADD COLUMN imported BOOLEAN DEFAULT FALSE NOT NULL;
@@ -0,0 +1,5 @@
+-- Last write of each rating. With the number of ratings it gives the revision of a place's
+-- ratings listing, which backs its ETag without loading the listing.
+ALTER TABLE ratings ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+UPDATE ratings SET updated_at = created_at;
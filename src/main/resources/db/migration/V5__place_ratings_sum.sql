@@ -0,0 +1,10 @@
+-- Running sum of scores so rating writes can update avg_rating incrementally.
+ALTER TABLE places
+    ADD COLUMN ratings_sum BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE places
+SET ratings_sum   = COALESCE((SELECT SUM(r.score) FROM ratings r WHERE r.place_id = places.id), 0),
+    ratings_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id);
+
+UPDATE places
+SET avg_rating = CASE WHEN ratings_count > 0 THEN CAST(ratings_sum AS DOUBLE PRECISION) / ratings_count ELSE 0 END;
@@ -0,0 +1,13 @@
+-- Per-score rating counters (1 to 5 stars), maintained with the other rating metrics.
+ALTER TABLE places ADD COLUMN score_1_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE places ADD COLUMN score_2_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE places ADD COLUMN score_3_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE places ADD COLUMN score_4_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE places ADD COLUMN score_5_count INT DEFAULT 0 NOT NULL;
+
+UPDATE places
+SET score_1_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 1),
+    score_2_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 2),
+    score_3_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 3),
+    score_4_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 4),
+    score_5_count = (SELECT COUNT(*) FROM ratings r WHERE r.place_id = places.id AND r.score = 5);
@@ -0,0 +1,2 @@
+-- Supports keyset pagination of a place's ratings ordered by (created_at, id).
+CREATE INDEX idx_ratings_place_created ON ratings (place_id, created_at, id);
@@ -0,0 +1,2 @@
+-- Supports count-free and keyset listings of places by status, newest first.
+CREATE INDEX idx_places_status_created ON places (status, created_at, id);
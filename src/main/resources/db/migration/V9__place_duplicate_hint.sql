@@ -0,0 +1,4 @@
+-- Possible duplicate flagged when the place was submitted, shown to moderators.
+ALTER TABLE places ADD COLUMN duplicate_of_id BIGINT;
+ALTER TABLE places ADD CONSTRAINT fk_place_duplicate_of
+    FOREIGN KEY (duplicate_of_id) REFERENCES places(id) ON DELETE SET NULL;
@@ -0,0 +1,77 @@
+package com.pit.service;
+
+import com.pit.service.index.PlaceClusterIndex;
+import com.pit.web.dto.ClusterDto;
+import com.pit.web.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PlaceClusterIndexTest {
+
+    PlaceClusterIndex index = new PlaceClusterIndex();
+
+    @Test
+    void zoomedOutViewMergesEverythingIntoOneCluster() {
+        index.put(place(1L, 48.85, 2.29, 4.0, 10));
+        index.put(place(2L, 48.86, 2.34, 0.0, 0));
+        index.put(place(3L, 45.76, 4.83, 5.0, 2));
+
+        List<ClusterDto> clusters = index.clusters(-85, -180, 85, 180, 0);
+
+        assertThat(clusters).hasSize(1);
+        ClusterDto cluster = clusters.get(0);
+        assertThat(cluster.count()).isEqualTo(3);
+        assertThat(cluster.lat()).isCloseTo((48.85 + 48.86 + 45.76) / 3, within(1e-9));
+        assertThat(cluster.avgRating()).isCloseTo(4.5, within(1e-9));
+    }
+
+    @Test
+    void cityZoomSeparatesDistantPlacesAndHonoursTheViewport() {
+        index.put(place(1L, 48.85, 2.29, 4.0, 10));
+        index.put(place(2L, 48.86, 2.34, 3.0, 1));
+        index.put(place(3L, 45.76, 4.83, 5.0, 2));
+
+        List<ClusterDto> france = index.clusters(42, -5, 51, 8, 8).stream()
+                .sorted(Comparator.comparingDouble(ClusterDto::lat))
+                .toList();
+        assertThat(france).extracting(ClusterDto::count).containsExactly(1, 2);
+
+        List<ClusterDto> parisOnly = index.clusters(48.5, 2.0, 49.0, 2.6, 8);
+        assertThat(parisOnly).extracting(ClusterDto::count).containsExactly(2);
+    }
+
+    @Test
+    void updatesAndRemovalsAdjustTheAggregates() {
+        index.put(place(1L, 48.85, 2.29, 4.0, 10));
+        index.put(place(2L, 48.86, 2.34, 2.0, 1));
+        index.put(place(2L, 48.86, 2.34, 3.0, 2));
+        index.remove(1L);
+
+        List<ClusterDto> clusters = index.clusters(-85, -180, 85, 180, 5);
+
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).count()).isEqualTo(1);
+        assertThat(clusters.get(0).avgRating()).isEqualTo(3.0);
+
+        index.remove(2L);
+        assertThat(index.clusters(-85, -180, 85, 180, 5)).isEmpty();
+    }
+
+    @Test
+    void rejectsDetailZoomLevels() {
+        assertThatThrownBy(() -> index.clusters(0, 0, 1, 1, PlaceClusterIndex.MAX_CLUSTER_ZOOM))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PlaceDto place(Long id, double lat, double lng, double avg, int count) {
+        return new PlaceDto(id, "Lieu " + id, null, lat, lng, "APPROVED", avg, count,
+                Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.pit.service;
+
+import com.pit.service.impl.PlaceDiscoveryServiceImpl;
+import com.pit.service.index.PlaceSpatialIndex;
+import com.pit.service.index.PlaceTileCache;
+import com.pit.service.index.PlaceTileEncoder;
+import com.pit.web.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceDiscoveryServiceImplTest {
+
+    static final int PLACES = 5100;
+
+    @Test
+    void busyTileKeepsTheMostRatedPlacesAndSaysItIsTruncated() {
+        List<PlaceDto> places = places();
+        Collections.shuffle(places, new Random(7));
+
+        byte[] tile = service(places).renderTile(0, 0, 0);
+
+        assertThat(tile).startsWith('P', 'I', 'T', 2);
+        assertThat(tile[6] & PlaceTileEncoder.FLAG_TRUNCATED).isEqualTo(PlaceTileEncoder.FLAG_TRUNCATED);
+        // Ratings count grows with the id: the 100 least rated places are the ones left out.
+        assertThat(featureIds(tile)).containsExactlyElementsOf(LongStream.rangeClosed(101, PLACES).boxed().toList());
+    }
+
+    @Test
+    void busyTileDoesNotDependOnInsertionOrder() {
+        List<PlaceDto> places = places();
+        byte[] inOrder = service(places).renderTile(0, 0, 0);
+        Collections.reverse(places);
+        byte[] reversed = service(places).renderTile(0, 0, 0);
+
+        assertThat(reversed).isEqualTo(inOrder);
+    }
+
+    @Test
+    void quietTileIsNotTruncated() {
+        byte[] tile = service(places().subList(0, 10)).renderTile(0, 0, 0);
+
+        assertThat(tile[5]).isZero();
+        assertThat(featureIds(tile)).hasSize(10);
+    }
+
+    private static PlaceDiscoveryService service(List<PlaceDto> places) {
+        PlaceSpatialIndex spatialIndex = new PlaceSpatialIndex();
+        places.forEach(spatialIndex::put);
+        return new PlaceDiscoveryServiceImpl(spatialIndex, null, new PlaceTileCache(16), null, null, null, null);
+    }
+
+    private static List<PlaceDto> places() {
+        List<PlaceDto> places = new ArrayList<>();
+        for (long id = 1; id <= PLACES; id++) {
+            // Spread over Europe, all in the single zoom 0 tile.
+            places.add(new PlaceDto(id, "Lieu" + id, null, 40.0 + id % 100 * 0.1, -5.0 + id / 100 * 0.3, "APPROVED",
+                    4.0, (int) id, Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0));
+        }
+        return places;
+    }
+
+    private static List<Long> featureIds(byte[] tile) {
+        ByteArrayInputStream in = new ByteArrayInputStream(tile, 4, tile.length - 4);
+        long count = readVarint(in);
+        in.read(); // flags
+        List<Long> ids = new ArrayList<>();
+        long id = 0;
+        for (long i = 0; i < count; i++) {
+            id += readVarint(in);
+            ids.add(id);
+            readVarint(in);
+            readVarint(in);
+            in.read();
+            readVarint(in);
+            in.skip(readVarint(in));
+        }
+        return ids;
+    }
+
+    private static long readVarint(ByteArrayInputStream in) {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.read();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
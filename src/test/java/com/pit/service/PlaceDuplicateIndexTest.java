@@ -0,0 +1,52 @@
+package com.pit.service;
+
+import com.pit.service.index.PlaceDuplicateIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceDuplicateIndexTest {
+
+    PlaceDuplicateIndex index = new PlaceDuplicateIndex(150, 0.5);
+
+    @BeforeEach
+    void setup() {
+        index.put(1L, "Tour Eiffel", 48.8584, 2.2945);
+        index.put(2L, "Champ de Mars", 48.8556, 2.2986);
+    }
+
+    @Test
+    void similarNameNearbyIsFlagged() {
+        assertThat(index.findDuplicate("La tour Eiffel", 48.8585, 2.2950)).contains(1L);
+        assertThat(index.findDuplicate("tour eifel", 48.8580, 2.2940)).contains(1L);
+    }
+
+    @Test
+    void accentsAndCaseAreIgnored() {
+        index.put(3L, "Église Saint-Sulpice", 48.8510, 2.3348);
+
+        assertThat(index.findDuplicate("eglise saint sulpice", 48.8511, 2.3350)).contains(3L);
+    }
+
+    @Test
+    void sameNameFarAwayIsNotFlagged() {
+        // Las Vegas replica, thousands of kilometres away.
+        assertThat(index.findDuplicate("Tour Eiffel", 36.1125, -115.1728)).isEmpty();
+        // Same name, about 500 m away: outside the 150 m radius.
+        assertThat(index.findDuplicate("Tour Eiffel", 48.8630, 2.2945)).isEmpty();
+    }
+
+    @Test
+    void differentNameNearbyIsNotFlagged() {
+        assertThat(index.findDuplicate("Musée du quai Branly", 48.8584, 2.2946)).isEmpty();
+    }
+
+    @Test
+    void removedPlacesAreNoLongerCandidates() {
+        index.remove(1L);
+
+        assertThat(index.findDuplicate("Tour Eiffel", 48.8584, 2.2945)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,76 @@
+package com.pit.service;
+
+import com.pit.config.RatingProperties;
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingRepository;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.service.index.PlaceDuplicateIndex;
+import com.pit.service.index.PlaceIndexUpdater;
+import com.pit.service.index.PlaceTextIndex;
+import com.pit.service.index.TrendingIndex;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.mapper.PlaceMapperImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PlaceIndexUpdaterTest {
+
+    PlaceTextIndex textIndex = new PlaceTextIndex();
+    PlaceDuplicateIndex duplicateIndex = new PlaceDuplicateIndex(150, 0.5);
+    PlaceIndexUpdater updater = new PlaceIndexUpdater(mock(PlaceRepository.class), new PlaceMapperImpl(),
+            List.of(textIndex), mock(RatingRepository.class), new TrendingIndex(new RatingProperties()), duplicateIndex);
+
+    @Test
+    void olderSnapshotArrivingLastDoesNotOverwriteTheNewerOne() {
+        updater.onPlaceChanged(new PlaceChangedEvent(
+                place(2, PlaceStatus.APPROVED, "Phare du Créac'h"), PlaceChangedEvent.Type.METRICS_UPDATED));
+        updater.onPlaceChanged(new PlaceChangedEvent(
+                place(1, PlaceStatus.APPROVED, "Phare"), PlaceChangedEvent.Type.APPROVED));
+
+        assertThat(names("phare")).containsExactly("Phare du Créac'h");
+    }
+
+    @Test
+    void staleModerationDoesNotHideTheApprovedPlace() {
+        updater.onPlaceChanged(new PlaceChangedEvent(
+                place(3, PlaceStatus.APPROVED, "Phare"), PlaceChangedEvent.Type.APPROVED));
+        updater.onPlaceChanged(new PlaceChangedEvent(
+                place(2, PlaceStatus.REJECTED, "Phare"), PlaceChangedEvent.Type.REJECTED));
+
+        assertThat(names("phare")).containsExactly("Phare");
+        assertThat(duplicateIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void deletedPlaceIsNotBroughtBackByAnEarlierUpdate() {
+        updater.onPlaceChanged(new PlaceChangedEvent(
+                place(4, PlaceStatus.APPROVED, "Phare"), PlaceChangedEvent.Type.DELETED));
+        updater.onPlaceChanged(new PlaceChangedEvent(
+                place(4, PlaceStatus.APPROVED, "Phare"), PlaceChangedEvent.Type.METRICS_UPDATED));
+
+        assertThat(names("phare")).isEmpty();
+        assertThat(duplicateIndex.size()).isZero();
+    }
+
+    private List<String> names(String query) {
+        return textIndex.search(query, PageRequest.of(0, 10)).getContent().stream().map(PlaceDto::name).toList();
+    }
+
+    private static Place place(long version, PlaceStatus status, String name) {
+        Place place = new Place();
+        place.setId(1L);
+        place.setVersion(version);
+        place.setStatus(status);
+        place.setName(name);
+        place.setLat(48.47);
+        place.setLng(-5.13);
+        return place;
+    }
+}
@@ -0,0 +1,145 @@
+package com.pit.service;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceSummary;
+import com.pit.service.event.PlaceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceListingCacheTest {
+
+    final Pageable firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    SimpleMeterRegistry meterRegistry;
+    AtomicLong clock;
+    PlaceListingCache cache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        cache = new PlaceListingCache(meterRegistry, true, 2, Duration.ofSeconds(30), clock::get);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void repeatedListingIsServedFromTheCache() {
+        Page<PlaceSummary> first = cache.page(PlaceStatus.APPROVED, firstPage, loader(1L, 2L));
+        Page<PlaceSummary> second = cache.page(PlaceStatus.APPROVED, firstPage, loader(1L, 2L));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("pit.places.listing.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("pit.places.listing.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void entriesExpireAfterTheirTimeToLive() {
+        cache.page(PlaceStatus.APPROVED, firstPage, loader(1L));
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.page(PlaceStatus.APPROVED, firstPage, loader(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void leastRecentlyUsedListingIsEvictedBeyondTheBound() {
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(0, 20), loader(1L));
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(1, 20), loader(2L));
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(0, 20), loader(1L));
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(2, 20), loader(3L));
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(0, 20), loader(1L));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void metricsOrderedListingsAreNotCached() {
+        Pageable byRating = PageRequest.of(0, 20, Sort.by("avgRating"));
+        cache.page(PlaceStatus.APPROVED, byRating, loader(1L));
+        cache.page(PlaceStatus.APPROVED, byRating, loader(1L));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void statusChangeEvictsOnlyTheListingsOfTheOldAndNewStatus() {
+        cache.page(PlaceStatus.APPROVED, firstPage, loader(1L));
+        cache.slice(PlaceStatus.REJECTED, firstPage, loader(2L));
+
+        cache.onPlaceChanged(new PlaceChangedEvent(place(3L, PlaceStatus.APPROVED),
+                PlaceChangedEvent.Type.APPROVED, PlaceStatus.PENDING));
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.slice(PlaceStatus.REJECTED, firstPage, loader(2L));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void metricsChangeEvictsOnlyTheListingsShowingThePlace() {
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(0, 20), loader(1L, 2L));
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(1, 20), loader(3L));
+
+        cache.onPlaceChanged(new PlaceChangedEvent(place(3L, PlaceStatus.APPROVED),
+                PlaceChangedEvent.Type.METRICS_UPDATED));
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.page(PlaceStatus.APPROVED, PageRequest.of(0, 20), loader(1L, 2L));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void listingLoadedDuringAnInvalidationIsNotCached() {
+        Page<PlaceSummary> loaded = cache.page(PlaceStatus.APPROVED, firstPage, () -> {
+            cache.onPlaceChanged(new PlaceChangedEvent(place(1L, PlaceStatus.APPROVED),
+                    PlaceChangedEvent.Type.METRICS_UPDATED));
+            return loader(1L).get();
+        });
+
+        assertThat(loaded).hasSize(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    private Supplier<Page<PlaceSummary>> loader(Long... ids) {
+        return () -> {
+            loads.incrementAndGet();
+            List<PlaceSummary> content = Arrays.stream(ids).map(PlaceListingCacheTest::summary).toList();
+            return new PageImpl<>(content);
+        };
+    }
+
+    private static PlaceSummary summary(Long id) {
+        PlaceSummary summary = mock(PlaceSummary.class);
+        when(summary.getId()).thenReturn(id);
+        return summary;
+    }
+
+    private static Place place(Long id, PlaceStatus status) {
+        Place place = new Place();
+        place.setId(id);
+        place.setStatus(status);
+        return place;
+    }
+}
@@ -0,0 +1,71 @@
+package com.pit.service;
+
+import com.pit.service.index.PlaceNameTrie;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.PlaceSuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceNameTrieTest {
+
+    PlaceNameTrie trie = new PlaceNameTrie();
+
+    @Test
+    void suggestsByAnyWordPrefixIgnoringAccents() {
+        trie.put(place(1L, "Tour Eiffel", 4.7, 500));
+        trie.put(place(2L, "Église Saint-Eustache", 4.5, 40));
+        trie.put(place(3L, "Musée d'Orsay", 4.8, 300));
+
+        assertThat(names(trie.suggest("eif", 10))).containsExactly("Tour Eiffel");
+        assertThat(names(trie.suggest("E", 10))).containsExactly("Tour Eiffel", "Église Saint-Eustache");
+        assertThat(names(trie.suggest("ORS", 10))).containsExactly("Musée d'Orsay");
+        assertThat(trie.suggest("zz", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksByRatingsCountThenAverageAndHonoursLimit() {
+        trie.put(place(1L, "Parc A", 4.0, 10));
+        trie.put(place(2L, "Parc B", 5.0, 10));
+        trie.put(place(3L, "Parc C", 3.0, 90));
+
+        assertThat(names(trie.suggest("parc", 2))).containsExactly("Parc C", "Parc B");
+    }
+
+    @Test
+    void ratingUpdatesAndRemovalsRefreshCachedRankings() {
+        trie.put(place(1L, "Parc A", 4.0, 10));
+        trie.put(place(2L, "Parc B", 4.0, 20));
+        assertThat(names(trie.suggest("pa", 10))).containsExactly("Parc B", "Parc A");
+
+        trie.put(place(1L, "Parc A", 4.0, 30));
+        assertThat(names(trie.suggest("pa", 10))).containsExactly("Parc A", "Parc B");
+
+        trie.remove(1L);
+        assertThat(names(trie.suggest("pa", 10))).containsExactly("Parc B");
+        assertThat(trie.suggest("a", 10)).isEmpty();
+    }
+
+    @Test
+    void topListIsBoundedAcrossManyMatches() {
+        for (long id = 1; id <= 50; id++) {
+            trie.put(place(id, "Lieu " + id, 3.0, (int) id));
+        }
+
+        assertThat(trie.suggest("lieu", 10))
+                .extracting(PlaceSuggestionDto::id)
+                .containsExactly(50L, 49L, 48L, 47L, 46L, 45L, 44L, 43L, 42L, 41L);
+    }
+
+    private static List<String> names(List<PlaceSuggestionDto> suggestions) {
+        return suggestions.stream().map(PlaceSuggestionDto::name).toList();
+    }
+
+    private static PlaceDto place(Long id, String name, double avg, int count) {
+        return new PlaceDto(id, name, null, 0.0, 0.0, "APPROVED", avg, count,
+                Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0);
+    }
+}
@@ -6,15 +6,22 @@ import com.pit.domain.Role;
 import com.pit.domain.User;
 import com.pit.repository.PlaceRepository;
 import com.pit.repository.UserRepository;
+import com.pit.service.event.PlaceChangedEvent;
 import com.pit.service.impl.PlaceServiceImpl;
+import com.pit.service.index.PlaceDuplicateIndex;
+import com.pit.web.dto.BatchModerationReport;
 import com.pit.web.dto.PlaceNotificationDto;
+import com.pit.web.mapper.PlaceMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +34,11 @@ class PlaceServiceImplTest {
     @Mock PlaceRepository placeRepository;
     @Mock UserRepository userRepository;
     @Mock SimpMessagingTemplate messagingTemplate;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock PlaceDuplicateIndex duplicateIndex;
+    @Mock PlaceListingCache listingCache;
+    @Mock PlaceViewCache viewCache;
+    @Mock PlaceMapper placeMapper;
     @InjectMocks PlaceServiceImpl service;
 
     @Test
@@ -46,6 +58,23 @@ class PlaceServiceImplTest {
         verify(messagingTemplate).convertAndSend(eq("/topic/admin/places"), any(PlaceNotificationDto.class));
     }
 
+    @Test
+    void createFlagsPossibleDuplicateForModerators() {
+        User author = new User();
+        author.setId(7L);
+        author.setEmail("user@test.local");
+
+        when(userRepository.findById(7L)).thenReturn(Optional.of(author));
+        when(duplicateIndex.findDuplicate("Tour Eiffel", 48.8584, 2.2945)).thenReturn(Optional.of(3L));
+        when(placeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        Place created = service.create("Tour Eiffel", null, 48.8584, 2.2945, 7L);
+
+        assertThat(created.getDuplicateOfId()).isEqualTo(3L);
+        verify(messagingTemplate).convertAndSend("/topic/admin/places", new PlaceNotificationDto(null, "PENDING",
+                "Nouvelle proposition par user@test.local. Doublon possible du lieu #3."));
+    }
+
     @Test
     void createFailsWhenUserMissing() {
         when(userRepository.findById(99L)).thenReturn(Optional.empty());
@@ -64,13 +93,15 @@ class PlaceServiceImplTest {
         author.setEmail("user@test.local");
         place.setCreatedBy(author);
 
-        when(placeRepository.findById(1L)).thenReturn(Optional.of(place));
+        when(placeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(place));
         when(placeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         Place updated = service.approve(1L);
 
         assertThat(updated.getStatus()).isEqualTo(PlaceStatus.APPROVED);
         verify(placeRepository).save(place);
+        verify(eventPublisher).publishEvent(
+                new PlaceChangedEvent(place, PlaceChangedEvent.Type.APPROVED, PlaceStatus.PENDING));
         verify(messagingTemplate).convertAndSendToUser(eq("user@test.local"), eq("/queue/places"),
                 any(PlaceNotificationDto.class));
     }
@@ -81,7 +112,7 @@ class PlaceServiceImplTest {
         place.setId(1L);
         place.setStatus(PlaceStatus.APPROVED);
 
-        when(placeRepository.findById(1L)).thenReturn(Optional.of(place));
+        when(placeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(place));
 
         Place updated = service.approve(1L);
 
@@ -99,7 +130,7 @@ class PlaceServiceImplTest {
         author.setEmail("user@test.local");
         place.setCreatedBy(author);
 
-        when(placeRepository.findById(1L)).thenReturn(Optional.of(place));
+        when(placeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(place));
         when(placeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         Place updated = service.reject(1L);
@@ -113,10 +144,75 @@ class PlaceServiceImplTest {
     void deleteRemovesExistingPlace() {
         Place place = new Place();
         place.setId(5L);
-        when(placeRepository.findById(5L)).thenReturn(Optional.of(place));
+        when(placeRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(place));
 
         service.delete(5L);
 
         verify(placeRepository).delete(place);
+        verify(eventPublisher).publishEvent(
+                new PlaceChangedEvent(place, PlaceChangedEvent.Type.DELETED, PlaceStatus.PENDING));
+    }
+
+    @Test
+    void batchApproveUpdatesInOneStatementAndNotifiesEachCreatorOnce() {
+        User alice = new User();
+        alice.setEmail("alice@test.local");
+        User bob = new User();
+        bob.setEmail("bob@test.local");
+        Place first = place(1L, PlaceStatus.PENDING, alice);
+        Place second = place(2L, PlaceStatus.PENDING, alice);
+        Place third = place(3L, PlaceStatus.PENDING, bob);
+        Place alreadyApproved = place(4L, PlaceStatus.APPROVED, bob);
+
+        when(placeRepository.findAllWithCreatorByIdIn(any()))
+                .thenReturn(List.of(first, second, third, alreadyApproved));
+
+        BatchModerationReport report = service.batchModerate(List.of(1L, 2L, 3L, 4L, 99L), ModerationAction.APPROVE);
+
+        assertThat(report.requested()).isEqualTo(5);
+        assertThat(report.affected()).isEqualTo(3);
+        assertThat(report.notFound()).containsExactly(99L);
+        verify(placeRepository).updateStatusByIdIn(eq(List.of(1L, 2L, 3L)), eq(PlaceStatus.APPROVED), any(Instant.class));
+        verify(placeRepository, never()).save(any());
+        assertThat(List.of(first, second, third)).allSatisfy(p -> {
+            assertThat(p.getStatus()).isEqualTo(PlaceStatus.APPROVED);
+            assertThat(p.getVersion()).isEqualTo(1);
+        });
+        assertThat(alreadyApproved.getVersion()).isZero();
+        verify(eventPublisher, times(3)).publishEvent(any(PlaceChangedEvent.class));
+        verify(messagingTemplate).convertAndSendToUser("alice@test.local", "/queue/places",
+                new PlaceNotificationDto(null, "APPROVED", "2 de vos lieux sont en ligne."));
+        verify(messagingTemplate).convertAndSendToUser("bob@test.local", "/queue/places",
+                new PlaceNotificationDto(3L, "APPROVED", "Votre lieu est en ligne."));
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    void batchDeleteDoesNotNotifyCreators() {
+        Place place = place(5L, PlaceStatus.REJECTED, new User());
+        when(placeRepository.findAllWithCreatorByIdIn(any())).thenReturn(List.of(place));
+
+        BatchModerationReport report = service.batchModerate(List.of(5L), ModerationAction.DELETE);
+
+        assertThat(report.affected()).isEqualTo(1);
+        verify(placeRepository).deleteByIdIn(List.of(5L));
+        verify(eventPublisher).publishEvent(
+                new PlaceChangedEvent(place, PlaceChangedEvent.Type.DELETED, PlaceStatus.REJECTED));
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void batchRejectsEmptySelection() {
+        assertThatThrownBy(() -> service.batchModerate(List.of(), ModerationAction.REJECT))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(placeRepository);
+    }
+
+    private static Place place(Long id, PlaceStatus status, User author) {
+        Place place = new Place();
+        place.setId(id);
+        place.setStatus(status);
+        place.setCreatedBy(author);
+        return place;
     }
 }
@@ -0,0 +1,65 @@
+package com.pit.service;
+
+import com.pit.service.index.PlaceSpatialIndex;
+import com.pit.web.dto.NearbyPlaceDto;
+import com.pit.web.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceSpatialIndexTest {
+
+    PlaceSpatialIndex index = new PlaceSpatialIndex();
+
+    @Test
+    void nearestReturnsPlacesWithinRadiusSortedByDistance() {
+        index.put(place(1L, 48.8584, 2.2945));   // Tour Eiffel
+        index.put(place(2L, 48.8606, 2.3376));   // Louvre, ~3.2 km
+        index.put(place(3L, 48.8530, 2.3499));   // Notre-Dame, ~4.2 km
+        index.put(place(4L, 45.7640, 4.8357));   // Lyon
+
+        List<NearbyPlaceDto> result = index.nearest(48.8584, 2.2945, 5.0, 10);
+
+        assertThat(result).extracting(r -> r.place().id()).containsExactly(1L, 2L, 3L);
+        assertThat(result.get(1).distanceKm()).isBetween(3.0, 3.5);
+    }
+
+    @Test
+    void nearestRespectsLimitAndRemovals() {
+        index.put(place(1L, 33.0, -7.0));
+        index.put(place(2L, 33.01, -7.0));
+        index.put(place(3L, 33.02, -7.0));
+
+        index.remove(1L);
+
+        assertThat(index.nearest(33.0, -7.0, 10.0, 1))
+                .extracting(r -> r.place().id()).containsExactly(2L);
+    }
+
+    @Test
+    void nearestWrapsAroundTheAntimeridian() {
+        index.put(place(1L, -17.0, 179.99));
+        index.put(place(2L, -17.0, -179.99));
+
+        assertThat(index.nearest(-17.0, 179.999, 5.0, 10))
+                .extracting(r -> r.place().id()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void putReplacesPreviousPosition() {
+        index.put(place(1L, 10.0, 10.0));
+        index.put(place(1L, 20.0, 20.0));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(10.0, 10.0, 50.0, 10)).isEmpty();
+        assertThat(index.nearest(20.0, 20.0, 1.0, 10)).hasSize(1);
+    }
+
+    private static PlaceDto place(Long id, double lat, double lng) {
+        return new PlaceDto(id, "Lieu " + id, null, lat, lng, "APPROVED", 0.0, 0,
+                Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0);
+    }
+}
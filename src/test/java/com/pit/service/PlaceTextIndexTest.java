@@ -0,0 +1,90 @@
+package com.pit.service;
+
+import com.pit.service.index.PlaceTextIndex;
+import com.pit.web.dto.PlaceDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceTextIndexTest {
+
+    PlaceTextIndex index = new PlaceTextIndex();
+
+    @BeforeEach
+    void setup() {
+        index.put(place(1L, "Église Saint-Étienne", "Joyau gothique au cœur de la vieille ville"));
+        index.put(place(2L, "Musée des Beaux-Arts", "Collection installée dans une ancienne église"));
+        index.put(place(3L, "Plage des Nations", "Sable fin et vagues"));
+    }
+
+    @Test
+    void searchFoldsAccentsAndLigatures() {
+        assertThat(ids(index.search("eglise", page()))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("COEUR", page()))).containsExactly(1L);
+        assertThat(ids(index.search("étienne", page()))).containsExactly(1L);
+    }
+
+    @Test
+    void nameMatchesRankAboveDescriptionMatches() {
+        assertThat(ids(index.search("Église", page()))).first().isEqualTo(1L);
+    }
+
+    @Test
+    void allTermsMustMatchWithLastTermAsPrefix() {
+        assertThat(ids(index.search("plage nat", page()))).containsExactly(3L);
+        assertThat(ids(index.search("plage musee", page()))).isEmpty();
+        assertThat(ids(index.search("mus", page()))).containsExactly(2L);
+    }
+
+    @Test
+    void removedAndUpdatedPlacesLeaveTheIndex() {
+        index.remove(1L);
+        index.put(place(2L, "Musée du Louvre", null));
+
+        assertThat(ids(index.search("eglise", page()))).isEmpty();
+        assertThat(ids(index.search("louvre", page()))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void prefixExpansionKeepsTheMostCommonTerms() {
+        // More rare completions of "mon" than the cap, all sorting before the common one.
+        for (long id = 10; id < 10 + 70; id++) {
+            index.put(place(id, "Mona" + (char) ('a' + id / 26 % 26) + (char) ('a' + id % 26), null));
+        }
+        for (long id = 100; id < 105; id++) {
+            index.put(place(id, "Mont " + id, null));
+        }
+
+        assertThat(index.search("mon", PageRequest.of(0, 100)).getContent())
+                .extracting(PlaceDto::id)
+                .contains(100L, 101L, 102L, 103L, 104L);
+    }
+
+    @Test
+    void resultsArePaged() {
+        Page<PlaceDto> second = index.search("eglise", PageRequest.of(1, 1));
+
+        assertThat(second.getTotalElements()).isEqualTo(2);
+        assertThat(ids(second)).containsExactly(2L);
+    }
+
+    private static PageRequest page() {
+        return PageRequest.of(0, 10);
+    }
+
+    private static List<Long> ids(Page<PlaceDto> page) {
+        return page.getContent().stream().map(PlaceDto::id).toList();
+    }
+
+    private static PlaceDto place(Long id, String name, String description) {
+        return new PlaceDto(id, name, description, 0.0, 0.0, "APPROVED", 0.0, 0,
+                Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0);
+    }
+}
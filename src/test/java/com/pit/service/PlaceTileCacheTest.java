@@ -0,0 +1,92 @@
+package com.pit.service;
+
+import com.pit.service.index.PlaceTileCache;
+import com.pit.service.index.PlaceTileEncoder;
+import com.pit.service.index.TileMath;
+import com.pit.web.dto.PlaceDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceTileCacheTest {
+
+    static final PlaceDto EIFFEL = place(1L, 48.8584, 2.2945, 4.5, 12);
+
+    PlaceTileCache cache = new PlaceTileCache(100);
+    AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void tilesAreRenderedOnceThenServedFromCache() {
+        cache.put(EIFFEL);
+
+        render(10);
+        render(10);
+
+        assertThat(renders).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void ratingChangeEvictsOnlyTheTilesContainingThePlace() {
+        cache.put(EIFFEL);
+        render(10);
+        long lyonX = TileMath.tileX(4.83, 10);
+        long lyonY = TileMath.tileY(45.76, 10);
+        cache.get(10, lyonX, lyonY, () -> new byte[0]);
+
+        cache.put(place(1L, 48.8584, 2.2945, 4.6, 13));
+
+        assertThat(cache.size()).isEqualTo(1);
+        render(10);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void unchangedPlaceKeepsTheCachedTile() {
+        cache.put(EIFFEL);
+        render(12);
+
+        cache.put(EIFFEL);
+        render(12);
+
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void removalEvictsTheTile() {
+        cache.put(EIFFEL);
+        render(3);
+
+        cache.remove(1L);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void encoderWritesHeaderAndOneFeaturePerPlace() {
+        int zoom = 10;
+        byte[] tile = PlaceTileEncoder.encode(zoom, TileMath.tileX(EIFFEL.lng(), zoom),
+                TileMath.tileY(EIFFEL.lat(), zoom), List.of(EIFFEL), false);
+
+        assertThat(tile).startsWith('P', 'I', 'T', 2);
+        assertThat(tile[4]).isEqualTo((byte) 1);
+        assertThat(tile[5]).isZero();
+        assertThat(new String(tile, tile.length - 5, 5)).isEqualTo("Lieu1");
+    }
+
+    private void render(int zoom) {
+        cache.get(zoom, TileMath.tileX(EIFFEL.lng(), zoom), TileMath.tileY(EIFFEL.lat(), zoom), () -> {
+            renders.incrementAndGet();
+            return new byte[]{1};
+        });
+    }
+
+    private static PlaceDto place(Long id, double lat, double lng, double avg, int count) {
+        return new PlaceDto(id, "Lieu" + id, null, lat, lng, "APPROVED", avg, count,
+                Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.pit.service;
+
+import com.pit.domain.Place;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.web.dto.PlaceDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlaceViewCacheTest {
+
+    SimpleMeterRegistry meterRegistry;
+    AtomicLong clock;
+    PlaceViewCache cache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        cache = new PlaceViewCache(meterRegistry, true, 2, Duration.ofMinutes(5), clock::get);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void repeatedViewIsServedFromTheCache() {
+        Optional<PlaceView> first = cache.get(1L, loader("Kasbah"));
+        Optional<PlaceView> second = cache.get(1L, loader("Kasbah"));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("pit.places.view.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void absentPlacesAndExpiredViewsAreReloaded() {
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get(1L, loader("Kasbah"));
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+        cache.get(1L, loader("Kasbah"));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void placeChangeEvictsItsView() {
+        cache.get(1L, loader("Kasbah"));
+        cache.get(2L, loader("Medina"));
+
+        cache.onPlaceChanged(new PlaceChangedEvent(place(1L), PlaceChangedEvent.Type.METRICS_UPDATED));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(1L, loader("Kasbah (renamed)")).orElseThrow().place().name())
+                .isEqualTo("Kasbah (renamed)");
+    }
+
+    @Test
+    void concurrentMissesOnOnePlaceShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Long, Optional<PlaceView>> slowLoader = id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(view(id, "Kasbah"));
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<PlaceView>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L, slowLoader)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get(1L, slowLoader)));
+            }
+            while (meterRegistry.get("pit.places.view.cache.requests").tag("result", "coalesced")
+                    .counter().count() < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<Optional<PlaceView>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotCached() {
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            cache.evict(id);
+            return Optional.of(view(id, "Kasbah"));
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void failedLoadIsNotKeptInFlight() {
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1L, loader("Kasbah"))).isPresent();
+    }
+
+    private Function<Long, Optional<PlaceView>> loader(String name) {
+        return id -> {
+            loads.incrementAndGet();
+            return Optional.of(view(id, name));
+        };
+    }
+
+    private static PlaceView view(Long id, String name) {
+        return new PlaceView(new PlaceDto(id, name, null, 30.0, -8.0, "APPROVED", 0.0, 0, null,
+                List.of(0, 0, 0, 0, 0), 0), 7L, 0, Instant.EPOCH);
+    }
+
+    private static Place place(Long id) {
+        Place place = new Place();
+        place.setId(id);
+        return place;
+    }
+}
@@ -0,0 +1,96 @@
+package com.pit.service;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.domain.User;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingAggregate;
+import com.pit.repository.RatingRepository;
+import com.pit.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RatingConcurrencyTest {
+
+    static final int THREADS = 8;
+    static final int USERS = 12;
+    static final int ROUNDS = 3;
+
+    @Autowired RatingService ratingService;
+    @Autowired PlaceRepository placeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RatingRepository ratingRepository;
+
+    Place place;
+    List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        ratingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setEmail("rater" + i + "@test.local");
+            user.setPassword("pwd");
+            users.add(userRepository.save(user));
+        }
+        place = new Place();
+        place.setName("Jemaa el-Fna");
+        place.setLat(31.6258);
+        place.setLng(-7.9891);
+        place.setStatus(PlaceStatus.APPROVED);
+        place.setCreatedBy(users.get(0));
+        placeRepository.save(place);
+    }
+
+    @Test
+    void concurrentRatingsKeepPlaceMetricsExact() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        // Every user rates the place several times from several threads at once, so first
+        // ratings race on the unique constraint and updates race on the same rows.
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < USERS; i++) {
+                Long userId = users.get(i).getId();
+                int score = 1 + (i + round) % 5;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return ratingService.rate(place.getId(), userId, score, null);
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Place reloaded = placeRepository.findById(place.getId()).orElseThrow();
+        RatingAggregate aggregate = ratingRepository.aggregateByPlaceIds(List.of(place.getId())).get(0);
+        assertThat(aggregate.getCount()).isEqualTo(USERS);
+        assertThat(reloaded.getRatingsCount()).isEqualTo(aggregate.getCount());
+        assertThat(reloaded.getRatingsSum()).isEqualTo(aggregate.getSum());
+        assertThat(reloaded.getScoreHistogram()).containsExactly(
+                (int) aggregate.getScore1(), (int) aggregate.getScore2(), (int) aggregate.getScore3(),
+                (int) aggregate.getScore4(), (int) aggregate.getScore5());
+        assertThat(reloaded.getAvgRating()).isEqualTo((double) aggregate.getSum() / aggregate.getCount());
+    }
+}
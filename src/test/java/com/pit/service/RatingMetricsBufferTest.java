@@ -0,0 +1,140 @@
+package com.pit.service;
+
+import com.pit.domain.Place;
+import com.pit.repository.PlaceMetricsDelta;
+import com.pit.repository.PlaceMetricsJdbcRepository;
+import com.pit.repository.PlaceRepository;
+import com.pit.service.event.PlaceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingMetricsBufferTest {
+
+    @Mock PlaceMetricsJdbcRepository metricsRepository;
+    @Mock PlaceRepository placeRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    @Mock ApplicationEventPublisher eventPublisher;
+
+    SimpleMeterRegistry meterRegistry;
+    RatingMetricsBuffer buffer;
+    RatingMetricsFlusher flusher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new RatingMetricsBuffer(meterRegistry);
+        flusher = new RatingMetricsFlusher(buffer, metricsRepository, placeRepository,
+                transactionTemplate, eventPublisher, meterRegistry);
+        lenient().doAnswer(inv -> {
+            inv.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void deltasOfTheSamePlaceAreCoalesced() {
+        buffer.record(PlaceMetricsDelta.ofRating(1L, null, 4));
+        buffer.record(PlaceMetricsDelta.ofRating(1L, null, 5));
+        buffer.record(PlaceMetricsDelta.ofRating(1L, 5, 2));
+        buffer.record(PlaceMetricsDelta.ofRating(2L, null, 2));
+
+        assertThat(meterRegistry.get("pit.ratings.metrics.pending").gauge().value()).isEqualTo(2.0);
+        List<PlaceMetricsDelta> drained = buffer.drain();
+        assertThat(drained).containsExactlyInAnyOrder(
+                new PlaceMetricsDelta(1L, List.of(0, 1, 0, 1, 0)), PlaceMetricsDelta.ofRating(2L, null, 2));
+        PlaceMetricsDelta first = drained.stream().filter(d -> d.placeId() == 1L).findFirst().orElseThrow();
+        assertThat(first.countDelta()).isEqualTo(2);
+        assertThat(first.sumDelta()).isEqualTo(6);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void flushWritesOneBatchAndNotifiesTheIndexes() {
+        Place place = new Place();
+        place.setId(1L);
+        buffer.record(PlaceMetricsDelta.ofRating(1L, null, 4));
+        buffer.record(PlaceMetricsDelta.ofRating(1L, null, 2));
+        when(placeRepository.findAllById(List.of(1L))).thenReturn(List.of(place));
+
+        flusher.flush();
+
+        verify(metricsRepository).applyDeltas(List.of(new PlaceMetricsDelta(1L, List.of(0, 1, 0, 1, 0))));
+        verify(eventPublisher).publishEvent(new PlaceChangedEvent(place, PlaceChangedEvent.Type.METRICS_UPDATED));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void failedFlushRequeuesTheDeltas() {
+        buffer.record(PlaceMetricsDelta.ofRating(1L, null, 4));
+        when(metricsRepository.applyDeltas(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        flusher.flush();
+        buffer.record(PlaceMetricsDelta.ofRating(1L, null, 3));
+
+        assertThat(buffer.drain()).containsExactly(new PlaceMetricsDelta(1L, List.of(0, 0, 1, 1, 0)));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void placeStaysPendingFromItsRatingCommitUntilTheFlushCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.record(PlaceMetricsDelta.ofRating(1L, null, 4));
+            assertThat(buffer.isPending(1L)).isFalse();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(s -> s.beforeCommit(false));
+            assertThat(buffer.isPending(1L)).isTrue();
+            synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        List<PlaceMetricsDelta> drained = buffer.drain();
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(buffer.isPending(1L)).isTrue();
+
+        buffer.flushed(drained);
+        assertThat(buffer.isPending(1L)).isFalse();
+    }
+
+    @Test
+    void rolledBackRatingLeavesNothingPending() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.record(PlaceMetricsDelta.ofRating(1L, null, 4));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(buffer.isPending(1L)).isFalse();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void emptyFlushDoesNothing() {
+        flusher.flush();
+
+        verifyNoInteractions(transactionTemplate, metricsRepository, eventPublisher);
+    }
+}
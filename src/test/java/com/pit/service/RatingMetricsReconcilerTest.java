@@ -0,0 +1,134 @@
+package com.pit.service;
+
+import com.pit.config.RatingProperties;
+import com.pit.domain.Place;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingAggregate;
+import com.pit.repository.RatingRepository;
+import com.pit.service.event.PlaceChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingMetricsReconcilerTest {
+
+    @Mock PlaceRepository placeRepository;
+    @Mock RatingRepository ratingRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock RatingMetricsBuffer metricsBuffer;
+
+    RatingMetricsReconciler reconciler;
+
+    @BeforeEach
+    void setup() {
+        reconciler = new RatingMetricsReconciler(placeRepository, ratingRepository, new RatingProperties(),
+                transactionTemplate, eventPublisher, metricsBuffer);
+    }
+
+    @Test
+    void consistentPlacesAreLeftUntouched() {
+        Place place = place(1L, List.of(0, 0, 0, 1, 1));
+        when(placeRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(place));
+        when(ratingRepository.aggregateByPlaceIds(List.of(1L))).thenReturn(List.of(aggregate(1L, List.of(0, 0, 0, 1, 1))));
+
+        assertThat(reconciler.reconcile()).isZero();
+
+        verifyNoInteractions(transactionTemplate, eventPublisher, metricsBuffer);
+        verify(placeRepository, never()).save(any());
+    }
+
+    @Test
+    void driftedPlacesAreCorrectedUnderLock() {
+        Place drifted = place(1L, List.of(0, 0, 1, 1, 1));
+        Place unrated = place(2L, List.of(0, 0, 0, 0, 0));
+        RatingAggregate actual = aggregate(1L, List.of(0, 0, 0, 1, 1));
+        when(placeRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(drifted, unrated));
+        when(ratingRepository.aggregateByPlaceIds(List.of(1L, 2L))).thenReturn(List.of(actual));
+        when(ratingRepository.aggregateByPlaceIds(List.of(1L))).thenReturn(List.of(actual));
+        when(placeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(drifted));
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+
+        assertThat(drifted.getRatingsCount()).isEqualTo(2);
+        assertThat(drifted.getAvgRating()).isEqualTo(4.5);
+        verify(placeRepository).save(drifted);
+        verify(eventPublisher).publishEvent(new PlaceChangedEvent(drifted, PlaceChangedEvent.Type.METRICS_UPDATED));
+    }
+
+    @Test
+    void driftedHistogramIsCorrectedEvenWhenCountAndSumMatch() {
+        Place drifted = place(1L, List.of(0, 1, 0, 0, 1));
+        RatingAggregate actual = aggregate(1L, List.of(0, 0, 1, 1, 0));
+        when(placeRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(drifted));
+        when(ratingRepository.aggregateByPlaceIds(List.of(1L))).thenReturn(List.of(actual));
+        when(placeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(drifted));
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+
+        assertThat(drifted.getScoreHistogram()).containsExactly(0, 0, 1, 1, 0);
+        assertThat(drifted.getRatingsSum()).isEqualTo(7);
+    }
+
+    @Test
+    void placeWhoseDeltaWentInFlightIsNotCorrected() {
+        Place drifted = place(1L, List.of(0, 0, 0, 1, 0));
+        RatingAggregate actual = aggregate(1L, List.of(0, 0, 0, 1, 1));
+        when(placeRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(drifted));
+        when(ratingRepository.aggregateByPlaceIds(List.of(1L))).thenReturn(List.of(actual));
+        when(placeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(drifted));
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // Not pending when scanned, in flight once the ratings were read under the lock.
+        when(metricsBuffer.isPending(1L)).thenReturn(false, true);
+
+        assertThat(reconciler.reconcile()).isZero();
+
+        assertThat(drifted.getScoreHistogram()).containsExactly(0, 0, 0, 1, 0);
+        verify(placeRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static Place place(Long id, List<Integer> histogram) {
+        Place place = new Place();
+        place.setId(id);
+        place.updateRatingMetrics(histogram);
+        return place;
+    }
+
+    private static RatingAggregate aggregate(Long placeId, List<Integer> histogram) {
+        long count = histogram.stream().mapToLong(Integer::longValue).sum();
+        long sum = 0;
+        for (int i = 0; i < histogram.size(); i++) {
+            sum += (long) (i + 1) * histogram.get(i);
+        }
+        long total = sum;
+        return new RatingAggregate() {
+            @Override public Long getPlaceId() { return placeId; }
+            @Override public long getCount() { return count; }
+            @Override public Long getSum() { return total; }
+            @Override public long getScore1() { return histogram.get(0); }
+            @Override public long getScore2() { return histogram.get(1); }
+            @Override public long getScore3() { return histogram.get(2); }
+            @Override public long getScore4() { return histogram.get(3); }
+            @Override public long getScore5() { return histogram.get(4); }
+        };
+    }
+}
@@ -1,19 +1,32 @@
 package com.pit.service;
 
+import com.pit.config.RatingProperties;
 import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
 import com.pit.domain.Rating;
 import com.pit.domain.User;
+import com.pit.repository.PlaceMetricsDelta;
+import com.pit.repository.PlaceMetricsJdbcRepository;
 import com.pit.repository.PlaceRepository;
 import com.pit.repository.RatingRepository;
 import com.pit.repository.UserRepository;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.service.event.RatingRecordedEvent;
 import com.pit.service.impl.RatingServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,8 +39,20 @@ class RatingServiceImplTest {
     @Mock RatingRepository ratingRepository;
     @Mock PlaceRepository placeRepository;
     @Mock UserRepository userRepository;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock RatingMetricsBuffer metricsBuffer;
+    @Spy RatingProperties properties = new RatingProperties();
+    @Mock PlaceMetricsJdbcRepository metricsRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    @Mock EntityManager entityManager;
     @InjectMocks RatingServiceImpl service;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
     @Test
     void rateRejectsOutOfRangeScore() {
         assertThatThrownBy(() -> service.rate(1L, 2L, 6, "bad"))
@@ -59,17 +84,114 @@ class RatingServiceImplTest {
 
         when(placeRepository.findById(1L)).thenReturn(Optional.of(approved));
         when(userRepository.findById(2L)).thenReturn(Optional.of(user));
-        when(ratingRepository.findByUserIdAndPlaceId(2L, 1L)).thenReturn(Optional.empty());
-        when(ratingRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(ratingRepository.countByPlaceId(1L)).thenReturn(1L);
-        when(ratingRepository.findAverageScoreByPlaceId(1L)).thenReturn(4.0);
-        when(placeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(ratingRepository.findByUserIdAndPlaceIdForUpdate(2L, 1L)).thenReturn(Optional.empty());
+        when(ratingRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
 
         Rating saved = service.rate(1L, 2L, 4, "ok");
 
         assertThat(saved.getScore()).isEqualTo(4);
         assertThat(saved.getComment()).isEqualTo("ok");
-        verify(ratingRepository).save(any(Rating.class));
-        verify(placeRepository).save(approved);
+        verify(ratingRepository).saveAndFlush(any(Rating.class));
+        verify(metricsRepository).applyDelta(PlaceMetricsDelta.ofRating(1L, null, 4));
+        verify(entityManager).refresh(approved);
+        verify(eventPublisher).publishEvent(any(RatingRecordedEvent.class));
+        verify(placeRepository, never()).save(any());
+        verify(ratingRepository, never()).countByPlaceId(any());
+    }
+
+    @Test
+    void updatingAnExistingRatingAppliesOnlyTheScoreDifference() {
+        Place approved = new Place();
+        approved.setId(1L);
+        approved.setStatus(PlaceStatus.APPROVED);
+        approved.updateRatingMetrics(List.of(0, 0, 1, 1, 1));
+
+        User user = new User();
+        user.setId(2L);
+
+        Rating existing = new Rating();
+        existing.setPlace(approved);
+        existing.setUser(user);
+        existing.setScore(5);
+
+        when(placeRepository.findById(1L)).thenReturn(Optional.of(approved));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(ratingRepository.findByUserIdAndPlaceIdForUpdate(2L, 1L)).thenReturn(Optional.of(existing));
+        when(ratingRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        service.rate(1L, 2L, 2, "changed my mind");
+
+        verify(metricsRepository).applyDelta(new PlaceMetricsDelta(1L, List.of(0, 1, 0, 0, -1)));
+    }
+
+    @Test
+    void lostRaceOnFirstRatingIsRetriedAsAnUpdate() {
+        Place approved = new Place();
+        approved.setId(1L);
+        approved.setStatus(PlaceStatus.APPROVED);
+
+        User user = new User();
+        user.setId(2L);
+
+        Rating winner = new Rating();
+        winner.setPlace(approved);
+        winner.setUser(user);
+        winner.setScore(5);
+
+        when(placeRepository.findById(1L)).thenReturn(Optional.of(approved));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(ratingRepository.findByUserIdAndPlaceIdForUpdate(2L, 1L))
+                .thenReturn(Optional.empty(), Optional.of(winner));
+        when(ratingRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation: UK_RATING_USER_PLACE"))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        Rating saved = service.rate(1L, 2L, 3, "retry");
+
+        assertThat(saved).isSameAs(winner);
+        verify(metricsRepository).applyDelta(new PlaceMetricsDelta(1L, List.of(0, 0, 1, 0, -1)));
+        verify(metricsRepository, never()).applyDelta(PlaceMetricsDelta.ofRating(1L, null, 3));
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotRetried() {
+        Place approved = new Place();
+        approved.setId(1L);
+        approved.setStatus(PlaceStatus.APPROVED);
+
+        User user = new User();
+        user.setId(2L);
+
+        when(placeRepository.findById(1L)).thenReturn(Optional.of(approved));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(ratingRepository.findByUserIdAndPlaceIdForUpdate(2L, 1L)).thenReturn(Optional.empty());
+        when(ratingRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("NULL not allowed"));
+
+        assertThatThrownBy(() -> service.rate(1L, 2L, 3, "bad"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(ratingRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void writeBehindModeBuffersTheDeltaInsteadOfSavingThePlace() {
+        properties.setMetricsMode(RatingProperties.MetricsMode.WRITE_BEHIND);
+        Place approved = new Place();
+        approved.setId(1L);
+        approved.setStatus(PlaceStatus.APPROVED);
+
+        User user = new User();
+        user.setId(2L);
+
+        when(placeRepository.findById(1L)).thenReturn(Optional.of(approved));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(ratingRepository.findByUserIdAndPlaceIdForUpdate(2L, 1L)).thenReturn(Optional.empty());
+        when(ratingRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        service.rate(1L, 2L, 4, "ok");
+
+        verify(metricsBuffer).record(PlaceMetricsDelta.ofRating(1L, null, 4));
+        verify(placeRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(PlaceChangedEvent.class));
+        assertThat(approved.getRatingsCount()).isZero();
     }
 }
@@ -0,0 +1,61 @@
+package com.pit.service;
+
+import com.pit.config.RatingProperties;
+import com.pit.service.index.TopRatedIndex;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.RankedPlaceDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TopRatedIndexTest {
+
+    TopRatedIndex index = new TopRatedIndex(new RatingProperties());
+
+    @Test
+    void manyGoodRatingsOutrankASinglePerfectOne() {
+        index.put(place(1L, 5.0, 1));
+        index.put(place(2L, 4.7, 500));
+        index.put(place(3L, 3.9, 40));
+
+        List<RankedPlaceDto> top = index.top(10);
+
+        assertThat(ids(top)).containsExactly(2L, 3L, 1L);
+        // Prior of 3.0 weighing as 10 votes: (10 * 3.0 + 5.0) / 11.
+        assertThat(top.get(2).score()).isCloseTo(35.0 / 11, within(1e-9));
+    }
+
+    @Test
+    void unratedPlacesAreNotRanked() {
+        index.put(place(1L, 0.0, 0));
+        index.put(place(2L, 4.0, 3));
+
+        assertThat(ids(index.top(10))).containsExactly(2L);
+    }
+
+    @Test
+    void updatesRepositionAndRemovalsDrop() {
+        index.put(place(1L, 4.0, 50));
+        index.put(place(2L, 4.5, 50));
+        index.put(place(3L, 3.0, 50));
+        assertThat(ids(index.top(2))).containsExactly(2L, 1L);
+
+        index.put(place(3L, 4.9, 60));
+        index.remove(2L);
+
+        assertThat(ids(index.top(2))).containsExactly(3L, 1L);
+    }
+
+    private static List<Long> ids(List<RankedPlaceDto> ranked) {
+        return ranked.stream().map(r -> r.place().id()).toList();
+    }
+
+    private static PlaceDto place(Long id, double avg, int count) {
+        return new PlaceDto(id, "Lieu " + id, null, 0.0, 0.0, "APPROVED", avg, count,
+                Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0);
+    }
+}
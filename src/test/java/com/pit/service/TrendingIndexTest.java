@@ -0,0 +1,82 @@
+package com.pit.service;
+
+import com.pit.config.RatingProperties;
+import com.pit.service.index.TrendingIndex;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.RankedPlaceDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingIndexTest {
+
+    static final Instant NOW = Instant.parse("2026-03-10T12:30:00Z");
+
+    TrendingIndex index;
+
+    @BeforeEach
+    void setup() {
+        RatingProperties properties = new RatingProperties();
+        properties.getTrending().setWindow(Duration.ofHours(24));
+        properties.getTrending().setHalfLife(Duration.ofHours(6));
+        index = new TrendingIndex(properties);
+        index.put(place(1L));
+        index.put(place(2L));
+        index.put(place(3L));
+    }
+
+    @Test
+    void recentActivityOutweighsOlderBursts() {
+        for (int i = 0; i < 3; i++) {
+            index.record(1L, NOW.minus(Duration.ofHours(12)), NOW);
+        }
+        index.record(2L, NOW.minus(Duration.ofMinutes(10)), NOW);
+
+        List<RankedPlaceDto> trending = index.trending(10, NOW);
+
+        assertThat(ids(trending)).containsExactly(2L, 1L);
+        // Three ratings two half-lives ago weigh as 0.75 of a rating now.
+        assertThat(trending.get(1).score()).isCloseTo(0.75, within(1e-9));
+    }
+
+    @Test
+    void activityLeavesTheWindow() {
+        index.record(1L, NOW.minus(Duration.ofHours(30)), NOW);
+        index.record(2L, NOW.minus(Duration.ofHours(23)), NOW);
+
+        assertThat(ids(index.trending(10, NOW))).containsExactly(2L);
+        assertThat(index.trending(10, NOW.plus(Duration.ofHours(1)))).isEmpty();
+    }
+
+    @Test
+    void recycledBucketsForgetTheirPreviousHour() {
+        index.record(1L, NOW.minus(Duration.ofHours(24)), NOW.minus(Duration.ofHours(1)));
+        index.record(3L, NOW, NOW);
+
+        assertThat(ids(index.trending(10, NOW))).containsExactly(3L);
+    }
+
+    @Test
+    void removedPlacesAreNotReturned() {
+        index.record(1L, NOW, NOW);
+        index.record(2L, NOW, NOW);
+        index.remove(1L);
+
+        assertThat(ids(index.trending(10, NOW))).containsExactly(2L);
+    }
+
+    private static List<Long> ids(List<RankedPlaceDto> ranked) {
+        return ranked.stream().map(r -> r.place().id()).toList();
+    }
+
+    private static PlaceDto place(Long id) {
+        return new PlaceDto(id, "Lieu " + id, null, 0.0, 0.0, "APPROVED", 0.0, 0,
+                Instant.parse("2026-01-01T00:00:00Z"), List.of(0, 0, 0, 0, 0), 0);
+    }
+}
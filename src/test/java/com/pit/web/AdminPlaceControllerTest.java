@@ -9,12 +9,15 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 
-import com.pit.domain.Place;
+import com.pit.repository.PlaceSummary;
+import com.pit.service.ModerationAction;
 import com.pit.service.PlaceService;
+import com.pit.web.dto.BatchModerationReport;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,8 +54,8 @@ class AdminPlaceControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void adminCanAccessDashboard() throws Exception {
-        when(placeService.findByStatus(any(), any()))
-                .thenReturn(new PageImpl<>(Collections.<Place>emptyList()));
+        when(placeService.findSliceByStatus(any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.<PlaceSummary>emptyList()));
 
         mvc.perform(get("/admin/places"))
                 .andExpect(status().isOk());
@@ -66,4 +69,18 @@ class AdminPlaceControllerTest {
 
         verify(placeService).delete(42L);
     }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminCanModerateSelection() throws Exception {
+        when(placeService.batchModerate(List.of(1L, 2L), ModerationAction.REJECT))
+                .thenReturn(new BatchModerationReport(ModerationAction.REJECT, 2, 2, List.of()));
+
+        mvc.perform(post("/admin/places/batch").with(csrf())
+                        .param("ids", "1", "2")
+                        .param("action", "REJECT"))
+                .andExpect(status().is3xxRedirection());
+
+        verify(placeService).batchModerate(List.of(1L, 2L), ModerationAction.REJECT);
+    }
 }
@@ -0,0 +1,160 @@
+package com.pit.web;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.domain.Role;
+import com.pit.domain.User;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingRepository;
+import com.pit.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminPlaceImportControllerTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired PlaceRepository placeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RatingRepository ratingRepository;
+
+    User admin;
+
+    @BeforeEach
+    void setup() {
+        ratingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+
+        admin = new User();
+        admin.setEmail("admin@test.local");
+        admin.setPassword("pwd");
+        admin.setRole(Role.ADMIN);
+        userRepository.save(admin);
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.local", roles = "ADMIN")
+    void importsValidCsvRowsAndReportsInvalidOnes() throws Exception {
+        String csv = String.join("\r\n",
+                "name,lat,lng,description",
+                "Jardin Majorelle,31.6417,-8.0033,\"Jardin, villa \"\"bleue\"\"",
+                "et musée\"",
+                "Koutoubia,31.6237,-7.9937,",
+                ",31.0,-7.0,sans nom",
+                "Nulle part,abc,-7.0,",
+                "Pôle,95.0,-7.0,",
+                "");
+
+        mvc.perform(post("/api/admin/places:import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(5))
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors", hasSize(3)))
+                .andExpect(jsonPath("$.errors", hasItem(startsWith("line 5: name"))))
+                .andExpect(jsonPath("$.errors", hasItem(startsWith("line 6: lat"))));
+
+        List<Place> places = placeRepository.findAll().stream()
+                .sorted(Comparator.comparing(Place::getName)).toList();
+        assertThat(places).extracting(Place::getName).containsExactly("Jardin Majorelle", "Koutoubia");
+        assertThat(places.get(0).getDescription()).isEqualTo("Jardin, villa \"bleue\"\r\net musée");
+        assertThat(places.get(0).getStatus()).isEqualTo(PlaceStatus.APPROVED);
+        assertThat(places.get(0).getCreatedBy().getId()).isEqualTo(admin.getId());
+        assertThat(places.get(1).getDescription()).isNull();
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.local", roles = "ADMIN")
+    void importsGeoJsonPointFeatures() throws Exception {
+        String geoJson = """
+                {"type": "FeatureCollection", "features": [
+                  {"type": "Feature", "geometry": {"type": "Point", "coordinates": [-7.99, 31.63]},
+                   "properties": {"name": "Médina", "description": "Vieille ville"}},
+                  {"type": "Feature", "geometry": {"type": "LineString", "coordinates": [[0, 0], [1, 1]]},
+                   "properties": {"name": "Route"}}
+                ]}
+                """;
+
+        mvc.perform(post("/api/admin/places:import")
+                        .param("status", "PENDING")
+                        .contentType("application/geo+json")
+                        .content(geoJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.errors[0]").value(startsWith("feature 2:")));
+
+        Place imported = placeRepository.findAll().get(0);
+        assertThat(imported.getName()).isEqualTo("Médina");
+        assertThat(imported.getLat()).isEqualTo(31.63);
+        assertThat(imported.getLng()).isEqualTo(-7.99);
+        assertThat(imported.getStatus()).isEqualTo(PlaceStatus.PENDING);
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.local", roles = "ADMIN")
+    void geoJsonThatIsNotJsonIsRejected() throws Exception {
+        mvc.perform(post("/api/admin/places:import")
+                        .contentType("application/geo+json")
+                        .content("<FeatureCollection/>"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.local", roles = "ADMIN")
+    void geoJsonBrokenAfterTheFeaturesKeepsThemAndReportsTheBreak() throws Exception {
+        String geoJson = """
+                {"type": "FeatureCollection", "features": [
+                  {"type": "Feature", "geometry": {"type": "Point", "coordinates": [-7.99, 31.63]},
+                   "properties": {"name": "Médina"}}
+                ], "bbox": [oops
+                """;
+
+        mvc.perform(post("/api/admin/places:import")
+                        .contentType("application/geo+json")
+                        .content(geoJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("document: malformed JSON, import stopped"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.local", roles = "ADMIN")
+    void csvWithoutRequiredColumnsIsRejected() throws Exception {
+        mvc.perform(post("/api/admin/places:import")
+                        .contentType("text/csv")
+                        .content("title,latitude\nA,1\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void nonAdminIsForbidden() throws Exception {
+        mvc.perform(post("/api/admin/places:import")
+                        .contentType("text/csv")
+                        .content("name,lat,lng\n"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,147 @@
+package com.pit.web;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.domain.Rating;
+import com.pit.domain.User;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingRepository;
+import com.pit.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminRatingControllerTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired PlaceRepository placeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RatingRepository ratingRepository;
+
+    User alice;
+    User bob;
+    Place approved;
+    Place pending;
+
+    @BeforeEach
+    void setup() {
+        ratingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+
+        alice = saveUser("alice@partner.test");
+        bob = saveUser("bob@partner.test");
+        approved = savePlace("Médina", PlaceStatus.APPROVED);
+        pending = savePlace("Souk", PlaceStatus.PENDING);
+
+        Rating existing = new Rating();
+        existing.setPlace(approved);
+        existing.setUser(alice);
+        existing.setScore(1);
+        ratingRepository.save(existing);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importsRatingsAndRecomputesPlaceMetricsOnce() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"placeId\":" + approved.getId() + ",\"userEmail\":\"alice@partner.test\",\"score\":4,\"comment\":\"revu\"}",
+                "{\"placeId\":" + approved.getId() + ",\"userEmail\":\"bob@partner.test\",\"score\":5}",
+                "",
+                "{\"placeId\":" + pending.getId() + ",\"userEmail\":\"bob@partner.test\",\"score\":3}",
+                "{\"placeId\":" + approved.getId() + ",\"userEmail\":\"nobody@partner.test\",\"score\":3}",
+                "{\"placeId\":" + approved.getId() + ",\"userEmail\":\"bob@partner.test\",\"score\":9}",
+                "not json");
+
+        mvc.perform(post("/api/admin/ratings:bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(6))
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.superseded").value(0))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.placesRecomputed").value(1))
+                .andExpect(jsonPath("$.errors", hasSize(4)))
+                .andExpect(jsonPath("$.errors", hasItem(startsWith("line 4:"))));
+
+        Place reloaded = placeRepository.findById(approved.getId()).orElseThrow();
+        assertThat(reloaded.getRatingsCount()).isEqualTo(2);
+        assertThat(reloaded.getRatingsSum()).isEqualTo(9);
+        assertThat(reloaded.getAvgRating()).isEqualTo(4.5);
+        assertThat(reloaded.getScoreHistogram()).containsExactly(0, 0, 0, 1, 1);
+        assertThat(ratingRepository.findByUserIdAndPlaceId(alice.getId(), approved.getId()).orElseThrow().getComment())
+                .isEqualTo("revu");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importedRatingsKeepTheirSourceTimeAndAreNoRecentActivity() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"placeId\":" + approved.getId() + ",\"userEmail\":\"bob@partner.test\",\"score\":2}",
+                "{\"placeId\":" + approved.getId() + ",\"userEmail\":\"bob@partner.test\",\"score\":5,"
+                        + "\"createdAt\":\"2023-05-01T10:00:00Z\"}");
+
+        mvc.perform(post("/api/admin/ratings:bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(0))
+                .andExpect(jsonPath("$.superseded").value(1));
+
+        Rating imported = ratingRepository.findByUserIdAndPlaceId(bob.getId(), approved.getId()).orElseThrow();
+        assertThat(imported.getScore()).isEqualTo(5);
+        assertThat(imported.getCreatedAt()).isEqualTo(Instant.parse("2023-05-01T10:00:00Z"));
+        assertThat(imported.isImported()).isTrue();
+        // Only alice's rating, made on the site, counts as activity.
+        assertThat(ratingRepository.findActivitySince(Instant.EPOCH)).hasSize(1);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void nonAdminIsForbidden() throws Exception {
+        mvc.perform(post("/api/admin/ratings:bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private User saveUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("pwd");
+        return userRepository.save(user);
+    }
+
+    private Place savePlace(String name, PlaceStatus status) {
+        Place place = new Place();
+        place.setName(name);
+        place.setLat(31.63);
+        place.setLng(-7.99);
+        place.setStatus(status);
+        place.setCreatedBy(alice);
+        return placeRepository.save(place);
+    }
+}
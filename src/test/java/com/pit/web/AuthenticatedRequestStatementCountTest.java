@@ -0,0 +1,115 @@
+package com.pit.web;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.domain.Role;
+import com.pit.domain.User;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingRepository;
+import com.pit.repository.UserRepository;
+import com.pit.security.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements per authenticated request, with the second-level cache cold and then warm.
+ * The owner reading their pending place looks their user up by email (JWT filter, then
+ * admin and owner checks) and loads the place; once cached, none of it reaches the database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthenticatedRequestStatementCountTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired PlaceRepository placeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RatingRepository ratingRepository;
+    @Autowired JwtService jwtService;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    Place place;
+    String token;
+
+    @BeforeEach
+    void setup() {
+        ratingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User owner = new User();
+        owner.setEmail("owner@test.local");
+        owner.setPassword("pwd");
+        owner.setRole(Role.USER);
+        userRepository.save(owner);
+
+        place = new Place();
+        place.setName("Cascade");
+        place.setLat(31.0);
+        place.setLng(-7.0);
+        place.setStatus(PlaceStatus.PENDING);
+        place.setCreatedBy(owner);
+        placeRepository.save(place);
+
+        token = jwtService.generateToken(org.springframework.security.core.userdetails.User
+                .withUsername(owner.getEmail())
+                .password(owner.getPassword())
+                .roles(owner.getRole().name())
+                .build());
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void warmSecondLevelCacheServesTheUserAndPlaceWithoutQueries() throws Exception {
+        long cold = statementsFor(this::readPlace);
+        long warm = statementsFor(this::readPlace);
+
+        assertThat(cold).isGreaterThanOrEqualTo(2);
+        assertThat(warm).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    private long statementsFor(ThrowingRunnable request) throws Exception {
+        statistics.clear();
+        request.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void readPlace() throws Exception {
+        mvc.perform(get("/api/places/{id}", place.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Cascade"));
+    }
+
+    // MockMvc calls throw checked exceptions.
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,132 @@
+package com.pit.web;
+
+import com.pit.domain.Place;
+import com.pit.domain.Role;
+import com.pit.domain.User;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.PlaceSummary;
+import com.pit.repository.RatingRepository;
+import com.pit.repository.UserRepository;
+import com.pit.service.PlaceListingCache;
+import com.pit.service.PlaceService;
+import com.pit.service.PlaceViewCache;
+import com.pit.service.RatingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Reads through the listing and view caches, which the test profile turns off elsewhere.
+ * Every change goes through the services, so the caches only stay fresh if their
+ * after-commit invalidation works.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.places.listing-cache.enabled=true",
+        "app.places.view-cache.enabled=true"
+})
+class CachedPlaceReadsTest {
+
+    static final Pageable NEWEST = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired MockMvc mvc;
+    @Autowired PlaceService placeService;
+    @Autowired RatingService ratingService;
+    @Autowired PlaceListingCache listingCache;
+    @Autowired PlaceViewCache viewCache;
+    @Autowired PlaceRepository placeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RatingRepository ratingRepository;
+
+    User author;
+    User rater;
+    Place medina;
+
+    @BeforeEach
+    void setup() {
+        ratingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+        author = saveUser("author@test.local");
+        rater = saveUser("rater@test.local");
+        // Approved through the service, so listings cached by a previous test are evicted.
+        medina = placeService.create("Médina", "Vieille ville", 31.63, -7.99, author.getId());
+        medina = placeService.approve(medina.getId());
+    }
+
+    @Test
+    void cachedListingsFollowCommittedModerationAndRatings() {
+        Place souk = placeService.create("Souk Semmarine", null, 31.62, -7.98, author.getId());
+
+        assertThat(names(placeService.findApprovedSlice(NEWEST))).containsExactly("Médina");
+        assertThat(names(placeService.findApprovedSlice(NEWEST))).containsExactly("Médina");
+        assertThat(listingCache.hitRatio()).isPositive();
+        assertThat(placeService.findApproved(NEWEST).getTotalElements()).isEqualTo(1);
+
+        placeService.approve(souk.getId());
+
+        assertThat(names(placeService.findApprovedSlice(NEWEST))).containsExactly("Souk Semmarine", "Médina");
+        assertThat(placeService.findApproved(NEWEST).getTotalElements()).isEqualTo(2);
+
+        ratingService.rate(medina.getId(), rater.getId(), 4, null);
+
+        PlaceSummary rated = placeService.findApprovedSlice(NEWEST).getContent().get(1);
+        assertThat(rated.getRatingsCount()).isEqualTo(1);
+        assertThat(rated.getAvgRating()).isEqualTo(4.0);
+    }
+
+    @Test
+    void cachedDetailAndItsTagFollowCommittedChanges() throws Exception {
+        String created = mvc.perform(get("/api/places/{id}", medina.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(get("/api/places/{id}", medina.getId()).header(HttpHeaders.IF_NONE_MATCH, created))
+                .andExpect(status().isNotModified());
+        assertThat(viewCache.size()).isPositive();
+
+        ratingService.rate(medina.getId(), rater.getId(), 5, null);
+
+        String rated = mvc.perform(get("/api/places/{id}", medina.getId()).header(HttpHeaders.IF_NONE_MATCH, created))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ratingsCount").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(rated).isNotEqualTo(created);
+
+        placeService.reject(medina.getId());
+
+        mvc.perform(get("/api/places/{id}", medina.getId()).header(HttpHeaders.IF_NONE_MATCH, rated))
+                .andExpect(status().isNotFound());
+        assertThat(placeService.findView(medina.getId()).place().status()).isEqualTo("REJECTED");
+    }
+
+    private static List<String> names(Slice<PlaceSummary> slice) {
+        return slice.getContent().stream().map(PlaceSummary::getName).toList();
+    }
+
+    private User saveUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("pwd");
+        user.setRole(Role.USER);
+        return userRepository.save(user);
+    }
+}
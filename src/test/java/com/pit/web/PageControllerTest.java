@@ -2,51 +2,114 @@ package com.pit.web;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import com.pit.domain.Place;
-import com.pit.domain.PlaceStatus;
 import com.pit.security.JwtService;
 import com.pit.service.AuthService;
+import com.pit.service.PlaceDiscoveryService;
+import com.pit.domain.Place;
 import com.pit.service.PlaceService;
+import com.pit.service.event.PlaceChangedEvent;
+import com.pit.service.PlaceView;
 import com.pit.service.RatingService;
+import com.pit.web.dto.PlaceDto;
+import com.pit.web.dto.RankedPlaceDto;
+import com.pit.web.view.PlaceFragmentCache;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.csrf.DefaultCsrfToken;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 @WebMvcTest(controllers = com.pit.web.controller.PageController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(PlaceFragmentCache.class)
 class PageControllerTest {
 
     @Autowired MockMvc mvc;
+    @Autowired PlaceFragmentCache fragmentCache;
     @MockBean PlaceService placeService;
     @MockBean RatingService ratingService;
     @MockBean AuthService authService;
+    @MockBean PlaceDiscoveryService discoveryService;
     @MockBean JwtService jwtService;
     @MockBean UserDetailsService userDetailsService;
 
     @Test
     void homeLoads() throws Exception {
-        when(placeService.findApproved(any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of()));
+        when(placeService.findApprovedSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
         when(authService.getCurrentUser()).thenReturn(Optional.empty());
         mvc.perform(get("/").requestAttr("_csrf", csrfToken()))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void homeCardsAreRenderedOncePerPlaceRevision() throws Exception {
+        PlaceDto place = new PlaceDto(40L, "Jardin Majorelle", "Jardin botanique", 31.64, -8.0, "APPROVED",
+                4.5, 2, null, List.of(0, 0, 0, 1, 1), 3);
+        when(placeService.findApprovedSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+        when(discoveryService.trending(anyInt())).thenReturn(List.of(new RankedPlaceDto(place, 2.0)));
+        when(authService.getCurrentUser()).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get("/").requestAttr("_csrf", csrfToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("<h2>Jardin Majorelle</h2>")))
+                    .andExpect(content().string(containsString("href=\"/places/40\"")));
+        }
+        int cached = fragmentCache.size();
+
+        PlaceDto rated = new PlaceDto(40L, "Jardin Majorelle", "Jardin botanique", 31.64, -8.0, "APPROVED",
+                4.7, 3, null, List.of(0, 0, 0, 1, 2), 4);
+        when(discoveryService.trending(anyInt())).thenReturn(List.of(new RankedPlaceDto(rated, 3.0)));
+        mvc.perform(get("/").requestAttr("_csrf", csrfToken()))
+                .andExpect(content().string(containsString("3 avis")));
+        assertThat(fragmentCache.size()).isEqualTo(cached + 1);
+    }
+
+    @Test
+    void placeChangeEvictsItsRenderedFragments() throws Exception {
+        PlaceDto place = new PlaceDto(41L, "Cascades d'Ouzoud", null, 32.01, -6.72, "APPROVED",
+                4.0, 1, null, List.of(0, 0, 0, 1, 0), 5);
+        when(placeService.findApprovedSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+        when(discoveryService.trending(anyInt())).thenReturn(List.of(new RankedPlaceDto(place, 1.0)));
+        when(authService.getCurrentUser()).thenReturn(Optional.empty());
+        mvc.perform(get("/").requestAttr("_csrf", csrfToken()))
+                .andExpect(content().string(containsString("Cascades d&#39;Ouzoud")));
+
+        Place changed = new Place();
+        changed.setId(41L);
+        fragmentCache.onPlaceChanged(new PlaceChangedEvent(changed, PlaceChangedEvent.Type.METRICS_UPDATED));
+
+        // Same revision number, new content: only the eviction keeps the old card out.
+        PlaceDto renamed = new PlaceDto(41L, "Ouzoud", null, 32.01, -6.72, "APPROVED",
+                4.0, 1, null, List.of(0, 0, 0, 1, 0), 5);
+        when(discoveryService.trending(anyInt())).thenReturn(List.of(new RankedPlaceDto(renamed, 1.0)));
+        mvc.perform(get("/").requestAttr("_csrf", csrfToken()))
+                .andExpect(content().string(containsString("<h2>Ouzoud</h2>")));
+    }
+
     @Test
     void loginLoads() throws Exception {
         mvc.perform(get("/login").requestAttr("_csrf", csrfToken()))
@@ -56,22 +119,19 @@ class PageControllerTest {
 
     @Test
     void publicPlacePageLoadsWhenApproved() throws Exception {
-        Place place = new Place();
-        place.setId(1L);
-        place.setName("Kasbah");
-        place.setLat(30.0);
-        place.setLng(-8.0);
-        place.setStatus(PlaceStatus.APPROVED);
-
-        when(placeService.findById(1L)).thenReturn(place);
-        when(ratingService.findByPlace(anyLong(), any(Pageable.class)))
+        PlaceDto place = new PlaceDto(1L, "Kasbah", null, 30.0, -8.0, "APPROVED", 13.0 / 3, 3, null,
+                List.of(0, 0, 1, 0, 2), 0);
+
+        when(placeService.findView(1L)).thenReturn(new PlaceView(place, 7L, 0, Instant.parse("2026-01-01T00:00:00Z")));
+        when(ratingService.findByPlaceWithAuthors(anyLong(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of()));
         when(authService.getCurrentUser()).thenReturn(Optional.empty());
         when(authService.isCurrentUserAdmin()).thenReturn(false);
 
         mvc.perform(get("/places/1").requestAttr("_csrf", csrfToken()))
                 .andExpect(status().isOk())
-                .andExpect(view().name("places/detail"));
+                .andExpect(view().name("places/detail"))
+                .andExpect(content().string(containsString("width: 66%")));
     }
 
     private static DefaultCsrfToken csrfToken() {
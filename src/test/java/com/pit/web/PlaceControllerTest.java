@@ -4,27 +4,39 @@ import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
 import com.pit.domain.Role;
 import com.pit.domain.User;
+import com.pit.repository.PlaceMetricsDelta;
+import com.pit.repository.PlaceMetricsJdbcRepository;
 import com.pit.repository.PlaceRepository;
 import com.pit.repository.UserRepository;
 import com.pit.service.AuthService;
+import com.pit.service.index.PlaceIndexUpdater;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
 import java.util.Locale;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.Mockito.*;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -40,6 +52,8 @@ class PlaceControllerTest {
     @Autowired UserRepository userRepository;
     @MockBean AuthService authService;
     @Autowired ObjectMapper objectMapper;
+    @Autowired PlaceIndexUpdater placeIndexUpdater;
+    @Autowired PlaceMetricsJdbcRepository metricsRepository;
 
     User author;
 
@@ -204,14 +218,215 @@ class PlaceControllerTest {
         assertThat(placeRepository.findById(pending.getId())).isEmpty();
     }
 
+    @Test
+    void nearbyReturnsApprovedPlacesSortedByDistance() throws Exception {
+        Place far = savePlace("Loin", PlaceStatus.APPROVED, 33.10, -7.0);
+        Place close = savePlace("Proche", PlaceStatus.APPROVED, 33.01, -7.0);
+        savePlace("En attente", PlaceStatus.PENDING, 33.0, -7.0);
+        savePlace("Hors rayon", PlaceStatus.APPROVED, 35.0, -7.0);
+        placeIndexUpdater.rebuild();
+
+        mvc.perform(get("/api/places/nearby")
+                        .param("lat", "33.0")
+                        .param("lng", "-7.0")
+                        .param("radiusKm", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].place.id").value(close.getId()))
+                .andExpect(jsonPath("$[1].place.id").value(far.getId()));
+    }
+
+    @Test
+    void cursorModeListsApprovedPlacesNewestFirst() throws Exception {
+        Place first = savePlace("Premier", PlaceStatus.APPROVED);
+        savePlace("Caché", PlaceStatus.PENDING);
+        Place second = savePlace("Deuxième", PlaceStatus.APPROVED);
+        Place third = savePlace("Troisième", PlaceStatus.APPROVED);
+
+        String body = mvc.perform(get("/api/places").param("after", "").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id").value(third.getId()))
+                .andExpect(jsonPath("$.items[1].id").value(second.getId()))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        mvc.perform(get("/api/places")
+                        .param("after", objectMapper.readTree(body).get("nextCursor").asText())
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mvc.perform(get("/api/places").param("after", "").param("status", "PENDING"))
+                .andExpect(status().isForbidden());
+    }
+
     record CreatePlacePayload(String name, String description, double lat, double lng) {}
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminCanModerateManyPlacesAtOnce() throws Exception {
+        Place first = savePlace("Cascade", PlaceStatus.PENDING);
+        Place second = savePlace("Grotte", PlaceStatus.PENDING);
+        Place approved = savePlace("Plage", PlaceStatus.APPROVED);
+
+        mvc.perform(post("/api/places:batchModerate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + first.getId() + "," + second.getId() + "," + approved.getId()
+                                + ",999999],\"action\":\"APPROVE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(4))
+                .andExpect(jsonPath("$.affected").value(2))
+                .andExpect(jsonPath("$.notFound[0]").value(999999));
+
+        assertThat(placeRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(PlaceStatus.APPROVED);
+        assertThat(placeRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(PlaceStatus.APPROVED);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void batchModerationIsAdminOnly() throws Exception {
+        Place pending = savePlace("Cascade", PlaceStatus.PENDING);
+
+        mvc.perform(post("/api/places:batchModerate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + pending.getId() + "],\"action\":\"DELETE\"}"))
+                .andExpect(status().isForbidden());
+
+        assertThat(placeRepository.findById(pending.getId())).isPresent();
+    }
+
+    @Test
+    void exportStreamsApprovedPlacesAsGeoJson() throws Exception {
+        Place approved = savePlace("Plage Bleue", PlaceStatus.APPROVED, 33.5, -7.6);
+        savePlace("Mont Secret", PlaceStatus.PENDING);
+
+        MvcResult started = mvc.perform(get("/api/places/export").param("format", "geojson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/geo+json"))
+                .andExpect(jsonPath("$.type").value("FeatureCollection"))
+                .andExpect(jsonPath("$.features", hasSize(1)))
+                .andExpect(jsonPath("$.features[0].id").value(approved.getId()))
+                .andExpect(jsonPath("$.features[0].geometry.coordinates[0]").value(-7.6))
+                .andExpect(jsonPath("$.features[0].geometry.coordinates[1]").value(33.5))
+                .andExpect(jsonPath("$.features[0].properties.name").value("Plage Bleue"));
+    }
+
+    @Test
+    void exportStreamsOneJsonObjectPerLineAsNdjson() throws Exception {
+        Place first = savePlace("Plage Bleue", PlaceStatus.APPROVED);
+        Place second = savePlace("Cascade", PlaceStatus.APPROVED);
+
+        MvcResult started = mvc.perform(get("/api/places/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(first.getId());
+        assertThat(objectMapper.readTree(lines[1]).get("name").asText()).isEqualTo(second.getName());
+    }
+
+    @Test
+    void exportRejectsUnknownFormat() throws Exception {
+        mvc.perform(get("/api/places/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.local", roles = {"ADMIN"})
+    void detailIsRevalidatedUntilModerationChangesIt() throws Exception {
+        Place pending = savePlace("Cascade", PlaceStatus.PENDING);
+        when(authService.isCurrentUserAdmin()).thenReturn(true);
+
+        MvcResult first = mvc.perform(get("/api/places/{id}", pending.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mvc.perform(get("/api/places/{id}", pending.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc.perform(post("/api/places/{id}:approve", pending.getId()))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/api/places/{id}", pending.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@test.local", roles = {"ADMIN"})
+    void detailTagIsNeverReusedAcrossMetricsAndModerationUpdates() throws Exception {
+        Place pending = savePlace("Cascade", PlaceStatus.PENDING);
+        when(authService.isCurrentUserAdmin()).thenReturn(true);
+        Place stale = placeRepository.findById(pending.getId()).orElseThrow();
+
+        String created = detailTag(pending.getId());
+        metricsRepository.applyDelta(PlaceMetricsDelta.ofRating(pending.getId(), null, 4));
+        String rated = detailTag(pending.getId());
+
+        stale.setName("Cascade d'Ouzoud");
+        assertThatThrownBy(() -> placeRepository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        mvc.perform(post("/api/places/{id}:approve", pending.getId()))
+                .andExpect(status().isNoContent());
+        String approved = detailTag(pending.getId());
+
+        assertThat(List.of(created, rated, approved)).doesNotHaveDuplicates();
+        Place reloaded = placeRepository.findById(pending.getId()).orElseThrow();
+        assertThat(reloaded.getRatingsCount()).isEqualTo(1);
+        assertThat(reloaded.getStatus()).isEqualTo(PlaceStatus.APPROVED);
+    }
+
+    @Test
+    void listIsRevalidatedUntilItsContentChanges() throws Exception {
+        savePlace("Plage Bleue", PlaceStatus.APPROVED);
+
+        String etag = mvc.perform(get("/api/places"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/api/places").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        savePlace("Cascade", PlaceStatus.APPROVED);
+
+        mvc.perform(get("/api/places").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    private String detailTag(Long placeId) throws Exception {
+        return mvc.perform(get("/api/places/{id}", placeId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
     private Place savePlace(String name, PlaceStatus status) {
+        return savePlace(name, status, 33.0, -7.0);
+    }
+
+    private Place savePlace(String name, PlaceStatus status, double lat, double lng) {
         Place place = new Place();
         place.setName(name);
         place.setDescription("Description " + name);
-        place.setLat(33.0);
-        place.setLng(-7.0);
+        place.setLat(lat);
+        place.setLng(lng);
         place.setStatus(status);
         place.setCreatedBy(author);
         return placeRepository.save(place);
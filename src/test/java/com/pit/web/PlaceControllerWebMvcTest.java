@@ -1,9 +1,11 @@
 package com.pit.web;
 
-import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
+import com.pit.repository.PlaceSummary;
 import com.pit.security.JwtService;
 import com.pit.service.AuthService;
+import com.pit.service.PlaceDiscoveryService;
+import com.pit.service.PlaceExportService;
 import com.pit.service.PlaceService;
 import com.pit.web.dto.PlaceDto;
 import com.pit.web.mapper.PlaceMapper;
@@ -21,6 +23,7 @@ import java.time.Instant;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.eq;
@@ -36,6 +39,8 @@ class PlaceControllerWebMvcTest {
     @MockBean PlaceService placeService;
     @MockBean PlaceMapper placeMapper;
     @MockBean AuthService authService;
+    @MockBean PlaceDiscoveryService discoveryService;
+    @MockBean PlaceExportService exportService;
     @MockBean JwtService jwtService;
     @MockBean UserDetailsService userDetailsService;
 
@@ -63,13 +68,7 @@ class PlaceControllerWebMvcTest {
     void listApprovedReturnsPage() throws Exception {
         when(authService.isCurrentUserAdmin()).thenReturn(false);
 
-        Place place = new Place();
-        place.setId(10L);
-        place.setName("Kasbah");
-        place.setDescription("Forteresse");
-        place.setLat(30.0);
-        place.setLng(-8.0);
-        place.setStatus(PlaceStatus.APPROVED);
+        PlaceSummary place = mock(PlaceSummary.class);
 
         PlaceDto dto = new PlaceDto(
                 10L,
@@ -80,8 +79,9 @@ class PlaceControllerWebMvcTest {
                 "APPROVED",
                 0.0,
                 0,
-                Instant.parse("2026-01-01T00:00:00Z")
-        );
+                Instant.parse("2026-01-01T00:00:00Z"),
+                List.of(0, 0, 0, 0, 0)
+        , 0);
 
         when(placeService.findByStatus(eq(PlaceStatus.APPROVED), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(place)));
@@ -93,9 +93,21 @@ class PlaceControllerWebMvcTest {
                 .andExpect(jsonPath("$.content[0].status").value("APPROVED"));
     }
 
+    @Test
+    void nearbyRejectsOutOfRangeRadius() throws Exception {
+        when(discoveryService.findNearby(30.0, -8.0, 5000.0, 20))
+                .thenThrow(new IllegalArgumentException("radiusKm must be in (0, 200.0]"));
+
+        mvc.perform(get("/api/places/nearby")
+                        .param("lat", "30.0")
+                        .param("lng", "-8.0")
+                        .param("radiusKm", "5000"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getReturnsNotFoundWhenMissing() throws Exception {
-        when(placeService.findById(99L))
+        when(placeService.findView(99L))
                 .thenThrow(new IllegalArgumentException("Place not found: 99"));
 
         mvc.perform(get("/api/places/99"))
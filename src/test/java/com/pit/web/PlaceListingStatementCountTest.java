@@ -0,0 +1,130 @@
+package com.pit.web;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.domain.Role;
+import com.pit.domain.User;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingRepository;
+import com.pit.repository.UserRepository;
+import com.pit.service.AuthService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Listings must cost the same number of statements however many authors the listed
+ * places have: one for the rows, plus one COUNT when a total is needed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlaceListingStatementCountTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired PlaceRepository placeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RatingRepository ratingRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @MockBean AuthService authService;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        ratingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+        for (int i = 0; i < 4; i++) {
+            User author = new User();
+            author.setEmail("author" + i + "@test.local");
+            author.setPassword("pwd");
+            author.setRole(Role.USER);
+            userRepository.save(author);
+            savePlace("Approuvé " + i, PlaceStatus.APPROVED, author);
+            savePlace("En attente " + i, PlaceStatus.PENDING, author);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void apiListingRunsOnlyThePageAndCountQueries() throws Exception {
+        mvc.perform(get("/api/places").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.totalElements").value(4));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void keysetListingRunsASingleQuery() throws Exception {
+        mvc.perform(get("/api/places").param("after", "").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void homePageRunsASingleQuery() throws Exception {
+        mvc.perform(get("/"))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminDashboardRunsOneQueryPerSection() throws Exception {
+        // More pending places than one dashboard page, so a total would need a COUNT.
+        User author = userRepository.findAll().get(0);
+        for (int i = 0; i < 12; i++) {
+            savePlace("Proposé " + i, PlaceStatus.PENDING, author);
+        }
+        statistics.clear();
+
+        mvc.perform(get("/admin/places"))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void savePlace(String name, PlaceStatus status, User author) {
+        Place place = new Place();
+        place.setName(name);
+        place.setLat(33.0);
+        place.setLng(-7.0);
+        place.setStatus(status);
+        place.setCreatedBy(author);
+        placeRepository.save(place);
+    }
+}
@@ -3,6 +3,7 @@ package com.pit.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
+import com.pit.domain.Rating;
 import com.pit.domain.User;
 import com.pit.repository.PlaceRepository;
 import com.pit.repository.RatingRepository;
@@ -14,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -21,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Locale;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -141,5 +144,68 @@ class RatingControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void cursorModePagesNewestFirstWithoutTotals() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            User rater = new User();
+            rater.setEmail("rater" + i + "@test.local");
+            rater.setPassword("pwd");
+            userRepository.save(rater);
+            Rating rating = new Rating();
+            rating.setPlace(approvedPlace);
+            rating.setUser(rater);
+            rating.setScore(i + 1);
+            ratingRepository.save(rating);
+        }
+
+        String body = mvc.perform(get("/api/places/{id}/ratings", approvedPlace.getId())
+                        .param("after", "")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].score").value(3))
+                .andExpect(jsonPath("$.items[1].score").value(2))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+        String next = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mvc.perform(get("/api/places/{id}/ratings", approvedPlace.getId())
+                        .param("after", next)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].score").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mvc.perform(get("/api/places/{id}/ratings", approvedPlace.getId())
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listIsRevalidatedUntilARatingChanges() throws Exception {
+        Rating rating = new Rating();
+        rating.setPlace(approvedPlace);
+        rating.setUser(user);
+        rating.setScore(4);
+        rating.setComment("Calme");
+        ratingRepository.save(rating);
+
+        String etag = mvc.perform(get("/api/places/{id}/ratings", approvedPlace.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/api/places/{id}/ratings", approvedPlace.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        rating.setComment("Calme et lumineux");
+        ratingRepository.save(rating);
+
+        mvc.perform(get("/api/places/{id}/ratings", approvedPlace.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].comment").value("Calme et lumineux"));
+    }
+
     record RatingPayload(int score, String comment) {}
 }
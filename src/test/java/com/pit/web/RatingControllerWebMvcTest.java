@@ -4,10 +4,13 @@ import com.pit.domain.Place;
 import com.pit.domain.PlaceStatus;
 import com.pit.domain.Rating;
 import com.pit.domain.User;
+import com.pit.repository.RatingsRevision;
 import com.pit.security.JwtService;
 import com.pit.service.AuthService;
 import com.pit.service.PlaceService;
+import com.pit.service.PlaceView;
 import com.pit.service.RatingService;
+import com.pit.web.dto.PlaceDto;
 import com.pit.web.dto.RatingDto;
 import com.pit.web.mapper.RatingMapper;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -26,7 +30,10 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,7 +51,7 @@ class RatingControllerWebMvcTest {
 
     @Test
     void listReturnsNotFoundWhenPlaceMissing() throws Exception {
-        when(placeService.findById(99L))
+        when(placeService.findView(99L))
                 .thenThrow(new IllegalArgumentException("Place not found: 99"));
 
         mvc.perform(get("/api/places/99/ratings"))
@@ -69,9 +76,11 @@ class RatingControllerWebMvcTest {
 
         RatingDto dto = new RatingDto(3L, 1L, 2L, 4, "Super", Instant.parse("2026-01-01T00:00:00Z"));
 
-        when(placeService.findById(1L)).thenReturn(place);
+        when(placeService.findView(1L)).thenReturn(new PlaceView(
+                new PlaceDto(1L, "Kasbah", null, 30.0, -8.0, "APPROVED", 0.0, 0, null, List.of(0, 0, 0, 0, 0), 0), 2L, 0, Instant.parse("2026-01-01T00:00:00Z")));
         when(authService.getCurrentUserId()).thenReturn(null);
         when(authService.isCurrentUserAdmin()).thenReturn(false);
+        when(ratingService.findRevision(1L)).thenReturn(revision(1, Instant.parse("2026-01-01T00:00:00Z")));
         when(ratingService.findByPlace(eq(1L), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(rating)));
         when(ratingMapper.toDto(rating)).thenReturn(dto);
@@ -81,4 +90,42 @@ class RatingControllerWebMvcTest {
                 .andExpect(jsonPath("$.content[0].id").value(3L))
                 .andExpect(jsonPath("$.content[0].score").value(4));
     }
+
+    @Test
+    void listRevalidationIsAnsweredWithoutLoadingThePage() throws Exception {
+        when(placeService.findView(1L)).thenReturn(new PlaceView(
+                new PlaceDto(1L, "Kasbah", null, 30.0, -8.0, "APPROVED", 0.0, 0, null, List.of(0, 0, 0, 0, 0), 0), 2L, 0, Instant.parse("2026-01-01T00:00:00Z")));
+        when(ratingService.findRevision(1L)).thenReturn(revision(1, Instant.parse("2026-01-01T00:00:00Z")));
+        when(ratingService.findByPlace(eq(1L), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
+        String etag = mvc.perform(get("/api/places/1/ratings"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        verify(ratingService).findByPlace(eq(1L), any(Pageable.class));
+
+        mvc.perform(get("/api/places/1/ratings").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mvc.perform(get("/api/places/1/ratings").param("page", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(ratingService).findByPlace(eq(1L), eq(Pageable.ofSize(20).withPage(1)));
+
+        when(ratingService.findRevision(1L)).thenReturn(revision(2, Instant.parse("2026-01-02T00:00:00Z")));
+        mvc.perform(get("/api/places/1/ratings").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    private static RatingsRevision revision(long count, Instant updatedAt) {
+        return new RatingsRevision() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public Instant getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
 }
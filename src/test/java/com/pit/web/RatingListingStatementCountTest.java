@@ -0,0 +1,115 @@
+package com.pit.web;
+
+import com.pit.domain.Place;
+import com.pit.domain.PlaceStatus;
+import com.pit.domain.Rating;
+import com.pit.domain.Role;
+import com.pit.domain.User;
+import com.pit.repository.PlaceRepository;
+import com.pit.repository.RatingRepository;
+import com.pit.repository.UserRepository;
+import com.pit.service.AuthService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budget of the pages listing ratings: it must not grow with the number of
+ * ratings or distinct raters shown.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RatingListingStatementCountTest {
+
+    static final int RATERS = 7;
+
+    @Autowired MockMvc mvc;
+    @Autowired PlaceRepository placeRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RatingRepository ratingRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @MockBean AuthService authService;
+
+    Place place;
+    Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        ratingRepository.deleteAll();
+        placeRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User owner = saveUser("owner@test.local");
+        place = new Place();
+        place.setName("Kasbah");
+        place.setLat(30.0);
+        place.setLng(-8.0);
+        place.setStatus(PlaceStatus.APPROVED);
+        place.setCreatedBy(owner);
+        placeRepository.save(place);
+
+        for (int i = 0; i < RATERS; i++) {
+            Rating rating = new Rating();
+            rating.setPlace(place);
+            rating.setUser(saveUser("rater" + i + "@test.local"));
+            rating.setScore(1 + i % 5);
+            ratingRepository.save(rating);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void apiRatingPageLoadsNeitherPlacesNorUsersPerRating() throws Exception {
+        mvc.perform(get("/api/places/{id}/ratings", place.getId()).param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)))
+                .andExpect(jsonPath("$.content[0].placeId").value(place.getId()));
+
+        // Place visibility check, ratings revision for the ETag, rating page, count.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void detailPageJoinsTheRatersIntoTheRatingQuery() throws Exception {
+        mvc.perform(get("/places/{id}", place.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("@test.local")));
+
+        // Place, rating page with its authors, count.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private User saveUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("pwd");
+        user.setRole(Role.USER);
+        return userRepository.save(user);
+    }
+}